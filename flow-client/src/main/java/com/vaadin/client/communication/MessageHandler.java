@@ -44,6 +44,7 @@ import com.vaadin.flow.shared.ui.LoadMode;
 
 import elemental.client.Browser;
 import elemental.dom.Node;
+import elemental.json.Json;
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
 
@@ -116,6 +117,12 @@ public class MessageHandler {
      */
     private ValueMap serverTimingInfo;
 
+    /**
+     * Holds the timing of handling the last response, to be reported to the
+     * server with the next request if the server asked for it.
+     */
+    private JsonObject clientTiming;
+
     /**
      * Holds the last seen response id given by the server.
      * <p>
@@ -425,9 +432,12 @@ public class MessageHandler {
                 constantPool.importFromJson(constants);
             }
 
+            double changesStart = Duration.currentTimeMillis();
             if (json.hasKey("changes")) {
                 processChanges(json);
             }
+            int changesTime = (int) (Duration.currentTimeMillis()
+                    - changesStart);
 
             if (json.hasKey(JsonConstants.UIDL_KEY_EXECUTE)) {
                 // Invoke JS only after all tree changes have been
@@ -445,7 +455,9 @@ public class MessageHandler {
                     + (Duration.currentTimeMillis() - processUidlStart)
                     + " ms");
 
+            double flushStart = Duration.currentTimeMillis();
             Reactive.flush();
+            int flushTime = (int) (Duration.currentTimeMillis() - flushStart);
 
             ValueMap meta = valueMap.getValueMap("meta");
 
@@ -478,6 +490,10 @@ public class MessageHandler {
 
             lastProcessingTime = (int) (Duration.currentTimeMillis() - start);
             totalProcessingTime += lastProcessingTime;
+            if (json.hasKey(ApplicationConstants.CLIENT_TIMING)) {
+                clientTiming = createClientTiming(getServerId(valueMap),
+                        changesTime, flushTime);
+            }
             if (!initialMessageHandled) {
                 initialMessageHandled = true;
 
@@ -512,6 +528,30 @@ public class MessageHandler {
 
     }
 
+    private JsonObject createClientTiming(int serverId, int changesTime,
+            int flushTime) {
+        JsonObject timing = Json.createObject();
+        timing.put(ApplicationConstants.CLIENT_TIMING_SYNC_ID, serverId);
+        timing.put(ApplicationConstants.CLIENT_TIMING_PROCESSING,
+                lastProcessingTime);
+        timing.put(ApplicationConstants.CLIENT_TIMING_CHANGES, changesTime);
+        timing.put(ApplicationConstants.CLIENT_TIMING_FLUSH, flushTime);
+        return timing;
+    }
+
+    /**
+     * Gets the timing of handling the last response and clears it so that it
+     * is reported to the server only once.
+     *
+     * @return the timing of the last response as JSON, or {@code null} if
+     *         there is nothing to report
+     */
+    public JsonObject takeClientTiming() {
+        JsonObject timing = clientTiming;
+        clientTiming = null;
+        return timing;
+    }
+
     private void processChanges(JsonObject json) {
         StateTree tree = registry.getStateTree();
         JsSet<StateNode> updatedNodes = TreeChangeProcessor.processChanges(tree,
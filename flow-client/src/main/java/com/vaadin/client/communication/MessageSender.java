@@ -163,6 +163,11 @@ public class MessageSender {
                 registry.getMessageHandler().getLastSeenServerSyncId());
         payload.put(ApplicationConstants.CLIENT_TO_SERVER_ID,
                 clientToServerMessageId++);
+        JsonObject clientTiming = registry.getMessageHandler()
+                .takeClientTiming();
+        if (clientTiming != null) {
+            payload.put(ApplicationConstants.CLIENT_TIMING, clientTiming);
+        }
         if (extraJson != null) {
             for (String key : extraJson.keys()) {
                 JsonValue value = extraJson.get(key);
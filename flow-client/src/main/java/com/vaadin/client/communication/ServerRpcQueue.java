@@ -18,9 +18,12 @@ package com.vaadin.client.communication;
 import com.google.gwt.core.client.Scheduler;
 import com.vaadin.client.Console;
 import com.vaadin.client.Registry;
+import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.json.Json;
 import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import elemental.json.JsonType;
 import elemental.json.JsonValue;
 
 /**
@@ -56,6 +59,12 @@ public class ServerRpcQueue {
 
     /**
      * Adds an explicit RPC method invocation to the send queue.
+     * <p>
+     * A property sync invocation replaces a still pending sync of the same
+     * node property if only other property syncs have been queued after it,
+     * so that a burst of changes to the same property is sent as one value.
+     * The pending sync is removed and the new one is added last, so that the
+     * syncs are still applied in the order of their last change.
      *
      * @param invocation
      *            RPC method invocation
@@ -66,9 +75,52 @@ public class ServerRpcQueue {
                     "Trying to invoke method on not yet started or stopped application");
             return;
         }
+        int index = findSupersededSync(invocation);
+        if (index >= 0) {
+            pendingInvocations.remove(index);
+        }
         pendingInvocations.set(pendingInvocations.length(), invocation);
     }
 
+    private int findSupersededSync(JsonValue invocation) {
+        if (!isMapSync(invocation)) {
+            return -1;
+        }
+        JsonObject sync = (JsonObject) invocation;
+        // Stop at the first invocation which is not a property sync since it
+        // may depend on the property values synchronized before it
+        for (int i = pendingInvocations.length() - 1; i >= 0; i--) {
+            JsonValue pending = pendingInvocations.get(i);
+            if (!isMapSync(pending)) {
+                return -1;
+            }
+            if (isSameProperty(sync, (JsonObject) pending)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isMapSync(JsonValue invocation) {
+        if (invocation.getType() != JsonType.OBJECT) {
+            return false;
+        }
+        JsonObject object = (JsonObject) invocation;
+        return object.hasKey(JsonConstants.RPC_TYPE)
+                && JsonConstants.RPC_TYPE_MAP_SYNC
+                        .equals(object.getString(JsonConstants.RPC_TYPE));
+    }
+
+    private static boolean isSameProperty(JsonObject sync,
+            JsonObject pending) {
+        return sync.getNumber(JsonConstants.RPC_NODE) == pending
+                .getNumber(JsonConstants.RPC_NODE)
+                && sync.getNumber(JsonConstants.RPC_FEATURE) == pending
+                        .getNumber(JsonConstants.RPC_FEATURE)
+                && sync.getString(JsonConstants.RPC_PROPERTY).equals(
+                        pending.getString(JsonConstants.RPC_PROPERTY));
+    }
+
     /**
      * Clears the queue.
      */
@@ -28,9 +28,11 @@ import com.vaadin.client.flow.util.NativeFunction;
 import com.vaadin.flow.component.page.Page;
 import com.vaadin.flow.internal.nodefeature.NodeFeatures;
 import com.vaadin.flow.internal.nodefeature.NodeProperties;
+import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
+import elemental.json.JsonType;
 import elemental.json.JsonValue;
 
 /**
@@ -44,6 +46,9 @@ public class ExecuteJavaScriptProcessor {
 
     private final Registry registry;
 
+    private final JsMap<String, NativeFunction> compiledScripts = JsCollections
+            .map();
+
     /**
      * Creates a new processor with the given registry.
      *
@@ -100,10 +105,22 @@ public class ExecuteJavaScriptProcessor {
         }
 
         // Set the script source as the last parameter
-        String expression = invocation.getString(invocation.length() - 1);
+        JsonValue script = invocation.get(invocation.length() - 1);
+        String scriptId = null;
+        String expression;
+        if (script.getType() == JsonType.OBJECT) {
+            // Script sent through the constant pool
+            scriptId = ((JsonObject) script)
+                    .getString(JsonConstants.UIDL_KEY_EXECUTE_SCRIPT_ID);
+            JsonValue constant = registry.getConstantPool().get(scriptId);
+            assert constant != null : "No script found with id " + scriptId;
+            expression = constant.asString();
+        } else {
+            expression = script.asString();
+        }
         parameterNamesAndCode[parameterNamesAndCode.length - 1] = expression;
 
-        invoke(parameterNamesAndCode, parameters, map);
+        invoke(scriptId, parameterNamesAndCode, parameters, map);
     }
 
     private boolean isVirtualChildAwaitingInitialization(StateNode node) {
@@ -135,9 +152,13 @@ public class ExecuteJavaScriptProcessor {
     }
 
     /**
-     * Executes the actual invocation. This method is protected instead of
-     * private for testing purposes.
+     * Executes the actual invocation, reusing the function compiled for a
+     * script sent through the constant pool. This method is protected instead
+     * of private for testing purposes.
      *
+     * @param scriptId
+     *            the constant pool id of the script, or {@code null} if the
+     *            script was not sent through the constant pool
      * @param parameterNamesAndCode
      *            an array consisting of parameter names followed by the
      *            JavaScript expression to execute
@@ -146,13 +167,14 @@ public class ExecuteJavaScriptProcessor {
      * @param nodeParameters
      *            the node parameters
      */
-    protected void invoke(String[] parameterNamesAndCode,
+    protected void invoke(String scriptId, String[] parameterNamesAndCode,
             JsArray<Object> parameters,
             JsMap<Object, StateNode> nodeParameters) {
         assert parameterNamesAndCode.length == parameters.length() + 1;
 
         try {
-            NativeFunction function = new NativeFunction(parameterNamesAndCode);
+            NativeFunction function = getFunction(scriptId,
+                    parameterNamesAndCode);
 
             function.apply(getContextExecutionObject(nodeParameters, () -> {
                 if (!registry.getUILifecycle().isTerminated()) {
@@ -185,6 +207,21 @@ public class ExecuteJavaScriptProcessor {
         }
     }
 
+    private NativeFunction getFunction(String scriptId,
+            String[] parameterNamesAndCode) {
+        if (scriptId == null) {
+            return new NativeFunction(parameterNamesAndCode);
+        }
+        // The same script may be invoked with a different number of arguments
+        String key = scriptId + "/" + (parameterNamesAndCode.length - 1);
+        NativeFunction function = compiledScripts.get(key);
+        if (function == null) {
+            function = new NativeFunction(parameterNamesAndCode);
+            compiledScripts.set(key, function);
+        }
+        return function;
+    }
+
     private boolean handleRemoveExistingNode(Integer removedId, int nodeId,
             JsonArray invocation) {
         if (removedId.intValue() == nodeId) {
@@ -60,6 +60,7 @@ import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.client.Browser;
 import elemental.css.CSSStyleDeclaration;
+import elemental.dom.DocumentFragment;
 import elemental.dom.Element;
 import elemental.dom.Node;
 import elemental.events.Event;
@@ -1115,6 +1116,11 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
             beforeRef = null;
         }
 
+        /*
+         * Consecutive new children are collected into a document fragment and
+         * inserted with a single DOM mutation instead of one per child.
+         */
+        DocumentFragment fragment = null;
         for (int i = 0; i < add.length(); i++) {
             Object newChildObject = add.get(i);
             StateNode newChild = (StateNode) newChildObject;
@@ -1123,17 +1129,36 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
                     .getRegistry().getExistingElementMap();
             Node childNode = existingElementMap.getElement(newChild.getId());
             if (childNode != null) {
+                insertFragment(context.htmlNode, fragment, beforeRef);
+                fragment = null;
+
                 existingElementMap.remove(newChild.getId());
                 newChild.setDomNode(childNode);
                 context.binderContext.createAndBind(newChild);
+
+                beforeRef = DomApi.wrap(childNode).getNextSibling();
             } else {
                 childNode = context.binderContext.createAndBind(newChild);
 
-                DomApi.wrap(context.htmlNode).insertBefore(childNode,
-                        beforeRef);
+                if (add.length() == 1) {
+                    DomApi.wrap(context.htmlNode).insertBefore(childNode,
+                            beforeRef);
+                } else {
+                    if (fragment == null) {
+                        fragment = Browser.getDocument()
+                                .createDocumentFragment();
+                    }
+                    fragment.appendChild(childNode);
+                }
             }
+        }
+        insertFragment(context.htmlNode, fragment, beforeRef);
+    }
 
-            beforeRef = DomApi.wrap(childNode).getNextSibling();
+    private static void insertFragment(Node htmlNode,
+            DocumentFragment fragment, Node beforeRef) {
+        if (fragment != null) {
+            DomApi.wrap(htmlNode).insertBefore(fragment, beforeRef);
         }
     }
 
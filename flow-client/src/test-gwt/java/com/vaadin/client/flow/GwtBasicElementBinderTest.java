@@ -566,6 +566,31 @@ public class GwtBasicElementBinderTest extends GwtPropertyElementBinderTest {
         assertSame(child4, element.getChildNodes().item(1));
     }
 
+    public void testInsertMultipleBetweenChildren() {
+        Binder.bind(node, element);
+
+        children.splice(0, 0, JsCollections.array(createChildNode("1"),
+                createChildNode("4")));
+
+        Reactive.flush();
+
+        Element extraChild = Browser.getDocument().createElement("div");
+        element.appendChild(extraChild);
+
+        children.splice(1, 0, JsCollections.array(createChildNode("2"),
+                createChildNode("3")));
+
+        Reactive.flush();
+
+        assertEquals(5, element.getChildElementCount());
+
+        assertEquals("1", ((Element) element.getChildren().item(0)).getId());
+        assertEquals("2", ((Element) element.getChildren().item(1)).getId());
+        assertEquals("3", ((Element) element.getChildren().item(2)).getId());
+        assertEquals("4", ((Element) element.getChildren().item(3)).getId());
+        assertSame(extraChild, element.getChildren().item(4));
+    }
+
     public void testAddBeforeSetTag() {
         Binder.bind(node, element);
 
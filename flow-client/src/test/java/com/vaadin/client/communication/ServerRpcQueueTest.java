@@ -0,0 +1,106 @@
+/*
+ * Copyright 2000-2024 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.communication;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.client.Registry;
+import com.vaadin.client.UILifecycle;
+import com.vaadin.client.UILifecycle.UIState;
+import com.vaadin.flow.shared.JsonConstants;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
+public class ServerRpcQueueTest {
+
+    private UILifecycle lifecycle = new UILifecycle();
+
+    private ServerRpcQueue queue;
+
+    @Before
+    public void setUp() {
+        Registry registry = new Registry() {
+            {
+                set(UILifecycle.class, lifecycle);
+            }
+        };
+        lifecycle.setState(UIState.RUNNING);
+        queue = new ServerRpcQueue(registry);
+    }
+
+    @Test
+    public void add_syncsOfSameProperty_lastValueIsQueued() {
+        queue.add(createSync(1, "value", 1));
+        queue.add(createSync(1, "value", 2));
+        queue.add(createSync(1, "value", 3));
+
+        Assert.assertEquals(1, queue.size());
+        assertSync(0, 1, "value", 3);
+    }
+
+    @Test
+    public void add_syncsOfDifferentProperties_syncsAreCoalescedInLastWriteOrder() {
+        queue.add(createSync(1, "value", 1));
+        queue.add(createSync(2, "value", 1));
+        queue.add(createSync(1, "checked", 1));
+        queue.add(createSync(1, "value", 2));
+
+        Assert.assertEquals(3, queue.size());
+        assertSync(0, 2, "value", 1);
+        assertSync(1, 1, "checked", 1);
+        assertSync(2, 1, "value", 2);
+    }
+
+    @Test
+    public void add_syncAfterEvent_previousSyncIsKept() {
+        queue.add(createSync(1, "value", 1));
+        JsonObject event = Json.createObject();
+        event.put(JsonConstants.RPC_TYPE, JsonConstants.RPC_TYPE_EVENT);
+        event.put(JsonConstants.RPC_NODE, 1);
+        event.put(JsonConstants.RPC_EVENT_TYPE, "change");
+        queue.add(event);
+        queue.add(createSync(1, "value", 2));
+
+        Assert.assertEquals(3, queue.size());
+        assertSync(0, 1, "value", 1);
+        Assert.assertSame(event, queue.toJson().getObject(1));
+        assertSync(2, 1, "value", 2);
+    }
+
+    private static JsonObject createSync(int node, String property,
+            double value) {
+        JsonObject sync = Json.createObject();
+        sync.put(JsonConstants.RPC_TYPE, JsonConstants.RPC_TYPE_MAP_SYNC);
+        sync.put(JsonConstants.RPC_NODE, node);
+        sync.put(JsonConstants.RPC_FEATURE, 1);
+        sync.put(JsonConstants.RPC_PROPERTY, property);
+        sync.put(JsonConstants.RPC_PROPERTY_VALUE, value);
+        return sync;
+    }
+
+    private void assertSync(int index, int node, String property,
+            double value) {
+        JsonObject sync = queue.toJson().getObject(index);
+        Assert.assertEquals(node, (int) sync.getNumber(JsonConstants.RPC_NODE));
+        Assert.assertEquals(property,
+                sync.getString(JsonConstants.RPC_PROPERTY));
+        Assert.assertEquals(value,
+                sync.getNumber(JsonConstants.RPC_PROPERTY_VALUE), 0);
+    }
+}
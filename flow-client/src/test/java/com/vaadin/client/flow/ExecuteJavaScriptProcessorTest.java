@@ -31,6 +31,7 @@ import com.vaadin.flow.internal.JsonCodec;
 import com.vaadin.flow.internal.JsonUtils;
 import com.vaadin.flow.internal.nodefeature.NodeFeatures;
 import com.vaadin.flow.internal.nodefeature.NodeProperties;
+import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.js.dom.JsElement;
 import elemental.json.Json;
@@ -40,6 +41,7 @@ import elemental.json.JsonObject;
 public class ExecuteJavaScriptProcessorTest {
     private static class CollectingExecuteJavaScriptProcessor
             extends ExecuteJavaScriptProcessor {
+        private final List<String> scriptIdList = new ArrayList<>();
         private final List<String[]> parameterNamesAndCodeList = new ArrayList<>();
         private final List<JsArray<Object>> parametersList = new ArrayList<>();
         private final List<JsMap<Object, StateNode>> nodeParametersList = new ArrayList<>();
@@ -66,9 +68,10 @@ public class ExecuteJavaScriptProcessorTest {
         }
 
         @Override
-        protected void invoke(String[] parameterNamesAndCode,
+        protected void invoke(String scriptId, String[] parameterNamesAndCode,
                 JsArray<Object> parameters,
                 JsMap<Object, StateNode> nodeParameters) {
+            scriptIdList.add(scriptId);
             parameterNamesAndCodeList.add(parameterNamesAndCode);
             parametersList.add(parameters);
             nodeParametersList.add(nodeParameters);
@@ -132,6 +135,39 @@ public class ExecuteJavaScriptProcessorTest {
         Assert.assertEquals(0, processor.nodeParametersList.get(1).size());
     }
 
+    @Test
+    public void execute_scriptFromConstantPool_expressionAndIdArePassed() {
+        ConstantPool constantPool = new ConstantPool();
+        JsonObject constants = Json.createObject();
+        constants.put("scriptId", "script1");
+        constantPool.importFromJson(constants);
+
+        CollectingExecuteJavaScriptProcessor processor = new CollectingExecuteJavaScriptProcessor(
+                new Registry() {
+                    {
+                        set(StateTree.class, new StateTree(this));
+                        set(ConstantPool.class, constantPool);
+                    }
+                });
+
+        JsonObject reference = Json.createObject();
+        reference.put(JsonConstants.UIDL_KEY_EXECUTE_SCRIPT_ID, "scriptId");
+        JsonArray invocation1 = JsonUtils.createArray(Json.create("param1"),
+                reference);
+        JsonArray invocation2 = JsonUtils.createArray(Json.create("script2"));
+
+        processor.execute(JsonUtils.createArray(invocation1, invocation2));
+
+        Assert.assertEquals(2, processor.parameterNamesAndCodeList.size());
+        Assert.assertArrayEquals(new String[] { "$0", "script1" },
+                processor.parameterNamesAndCodeList.get(0));
+        Assert.assertEquals("scriptId", processor.scriptIdList.get(0));
+
+        Assert.assertArrayEquals(new String[] { "script2" },
+                processor.parameterNamesAndCodeList.get(1));
+        Assert.assertNull(processor.scriptIdList.get(1));
+    }
+
     @Test
     public void execute_nodeParametersAreCorrectlyPassed() {
         Registry registry = new Registry() {
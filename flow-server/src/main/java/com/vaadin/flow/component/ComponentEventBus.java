@@ -16,7 +16,6 @@
 package com.vaadin.flow.component;
 
 import java.io.Serializable;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -28,6 +27,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 
+import com.vaadin.flow.component.ComponentEventBusUtil.EventTypeInfo;
 import com.vaadin.flow.dom.DebouncePhase;
 import com.vaadin.flow.dom.DisabledUpdateMode;
 import com.vaadin.flow.dom.DomEvent;
@@ -339,38 +339,31 @@ public class ComponentEventBus implements Serializable {
     }
 
     /**
-     * Creates a list of data objects which can be passed to the constructor
-     * returned by {@link ComponentEventBusUtil#getEventConstructor(Class)} as
+     * Decodes a data object which can be passed to the constructor returned by
+     * {@link ComponentEventBusUtil#getEventConstructor(Class)} as one of the
      * parameters 3+.
      *
      * @param domEvent
      *            the DOM event containing the data
-     * @param eventType
-     *            the component event type
-     * @return a list of event data objects in the same order as defined in the
-     *         component event constructor
+     * @param expression
+     *            the event data expression
+     * @param type
+     *            the type of the constructor parameter
+     * @param elementReference
+     *            whether the data refers to an element or a component
+     * @return the event data object
      */
-    private List<Object> createEventDataObjects(DomEvent domEvent,
-            Class<? extends ComponentEvent<?>> eventType) {
-        List<Object> eventDataObjects = new ArrayList<>();
-
-        LinkedHashMap<String, Class<?>> expressions = ComponentEventBusUtil
-                .getEventDataExpressions(eventType);
-        expressions.forEach((expression, type) -> {
-            if (Component.class.isAssignableFrom(type)
-                    || type == Element.class) {
-                eventDataObjects.add(parseStateNodeIdToComponentReference(
-                        domEvent, type, expression));
-            } else {
-                JsonValue jsonValue = domEvent.getEventData().get(expression);
-                if (jsonValue == null) {
-                    jsonValue = Json.createNull();
-                }
-                Object value = JsonCodec.decodeAs(jsonValue, type);
-                eventDataObjects.add(value);
-            }
-        });
-        return eventDataObjects;
+    private Object decodeEventData(DomEvent domEvent, String expression,
+            Class<?> type, boolean elementReference) {
+        if (elementReference) {
+            return parseStateNodeIdToComponentReference(domEvent, type,
+                    expression);
+        }
+        JsonValue jsonValue = domEvent.getEventData().get(expression);
+        if (jsonValue == null) {
+            jsonValue = Json.createNull();
+        }
+        return JsonCodec.decodeAs(jsonValue, type);
     }
 
     private Object parseStateNodeIdToComponentReference(DomEvent event,
@@ -502,26 +495,25 @@ public class ComponentEventBus implements Serializable {
     private <T extends ComponentEvent<?>> T createEventForDomEvent(
             Class<T> eventType, DomEvent domEvent, Component source) {
         try {
-            Constructor<T> c = ComponentEventBusUtil
-                    .getEventConstructor(eventType);
+            EventTypeInfo info = ComponentEventBusUtil
+                    .getEventTypeInfo(eventType);
             // Make sure that the source component type is ok
-            if (!c.getParameterTypes()[0].isAssignableFrom(source.getClass())) {
-                Class<?> definedSourceType = c.getParameterTypes()[0];
+            if (!info.sourceType.isAssignableFrom(source.getClass())) {
                 throw new IllegalArgumentException(String.format(
                         "The event type %s define the source type to be %s, which is not compatible with the used source of type %s",
-                        eventType.getName(), definedSourceType.getName(),
+                        eventType.getName(), info.sourceType.getName(),
                         source.getClass().getName()));
             }
 
-            List<Object> eventData = createEventDataObjects(domEvent,
-                    eventType);
-            Object[] params = new Object[eventData.size() + 2];
+            String[] expressions = info.dataExpressionArray;
+            Object[] params = new Object[expressions.length + 2];
             params[0] = source;
             params[1] = Boolean.TRUE; // From client
-            for (int i = 0; i < eventData.size(); i++) {
-                params[i + 2] = eventData.get(i);
+            for (int i = 0; i < expressions.length; i++) {
+                params[i + 2] = decodeEventData(domEvent, expressions[i],
+                        info.dataTypes[i], info.elementReferences[i]);
             }
-            return c.newInstance(params);
+            return eventType.cast(info.eventConstructor.newInstance(params));
         } catch (InstantiationException | IllegalAccessException
                 | IllegalArgumentException | InvocationTargetException
                 | SecurityException e) {
@@ -22,6 +22,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 
 import com.vaadin.flow.dom.DomEvent;
+import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.internal.ReflectTools;
 import com.vaadin.flow.internal.ReflectionCache;
 
@@ -44,13 +45,34 @@ public class ComponentEventBusUtil {
     static ReflectionCache<ComponentEvent<?>, EventTypeInfo> cache = new ReflectionCache<>(
             EventTypeInfo::new);
 
-    private static class EventTypeInfo {
+    /**
+     * Reflection data needed for creating events of a given type from DOM
+     * events. The data expressions and their types are also kept as arrays in
+     * constructor parameter order, so that they can be used for each fired
+     * event without iterating the map or copying the constructor parameter
+     * types.
+     */
+    static class EventTypeInfo {
         private final LinkedHashMap<String, Class<?>> dataExpressions;
-        private final Constructor<? extends ComponentEvent<?>> eventConstructor;
+        final Constructor<? extends ComponentEvent<?>> eventConstructor;
+        final Class<?> sourceType;
+        final String[] dataExpressionArray;
+        final Class<?>[] dataTypes;
+        final boolean[] elementReferences;
 
         public EventTypeInfo(Class<? extends ComponentEvent<?>> type) {
             eventConstructor = findEventConstructor(type);
             dataExpressions = findEventDataExpressions(eventConstructor);
+            sourceType = eventConstructor.getParameterTypes()[0];
+            dataExpressionArray = dataExpressions.keySet()
+                    .toArray(new String[0]);
+            dataTypes = dataExpressions.values().toArray(new Class<?>[0]);
+            elementReferences = new boolean[dataTypes.length];
+            for (int i = 0; i < dataTypes.length; i++) {
+                elementReferences[i] = Component.class
+                        .isAssignableFrom(dataTypes[i])
+                        || dataTypes[i] == Element.class;
+            }
         }
     }
 
@@ -106,6 +128,21 @@ public class ComponentEventBusUtil {
         return eventDataExpressions;
     }
 
+    /**
+     * Gets the cached reflection data for creating component events of the
+     * given type based on DOM events.
+     *
+     * @param eventType
+     *            the component event type
+     * @return the event type data
+     * @throws IllegalArgumentException
+     *             if no suitable constructor was found
+     */
+    static EventTypeInfo getEventTypeInfo(
+            Class<? extends ComponentEvent<?>> eventType) {
+        return cache.get(eventType);
+    }
+
     /**
      * Gets the constructor to use for firing a component event, of the given
      * type, based on a DOM event.
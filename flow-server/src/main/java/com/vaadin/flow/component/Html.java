@@ -17,16 +17,20 @@ package com.vaadin.flow.component;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Serializable;
 import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.jsoup.Jsoup;
 import org.jsoup.helper.DataUtil;
 import org.jsoup.nodes.Attribute;
-import org.jsoup.nodes.Attributes;
 import org.jsoup.nodes.Document;
 
 import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.internal.LruCache;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -58,6 +62,42 @@ public class Html extends Component {
     private static final PropertyDescriptor<String, String> innerHtmlDescriptor = PropertyDescriptors
             .propertyWithDefault("innerHTML", "");
 
+    private static final int PARSED_HTML_CACHE_SIZE = 500;
+
+    /**
+     * Fragments longer than this are parsed every time, so that large
+     * fragments used only once don't fill the cache.
+     */
+    private static final int MAX_CACHED_HTML_LENGTH = 2048;
+
+    /**
+     * Cache of recently parsed HTML fragments, so that creating many instances
+     * from the same HTML doesn't parse it again every time.
+     */
+    private static final LruCache<String, ParsedHtml> parsedHtmlCache = new LruCache<>(
+            PARSED_HTML_CACHE_SIZE);
+
+    /**
+     * The root tag, root attributes and inner HTML of a parsed fragment.
+     */
+    private static class ParsedHtml implements Serializable {
+        private final String tag;
+        private final Map<String, String> attributes;
+        private final String innerHtml;
+
+        private ParsedHtml(org.jsoup.nodes.Element root) {
+            tag = root.tagName();
+            Map<String, String> rootAttributes = new LinkedHashMap<>();
+            for (Attribute attribute : root.attributes()) {
+                String value = attribute.getValue();
+                rootAttributes.put(attribute.getKey(),
+                        value == null ? "" : value);
+            }
+            attributes = Collections.unmodifiableMap(rootAttributes);
+            innerHtml = root.html();
+        }
+    }
+
     /**
      * Creates an instance based on the HTML fragment read from the stream. The
      * fragment must have exactly one root element.
@@ -134,6 +174,30 @@ public class Html extends Component {
     }
 
     private void setOuterHtml(String outerHtml, boolean update) {
+        boolean cacheable = outerHtml.length() <= MAX_CACHED_HTML_LENGTH;
+        ParsedHtml parsed = cacheable ? parsedHtmlCache.get(outerHtml) : null;
+        if (parsed == null) {
+            parsed = parse(outerHtml);
+            if (cacheable) {
+                parsedHtmlCache.put(outerHtml, parsed);
+            }
+        }
+
+        if (!update) {
+            Component.setElement(this, new Element(parsed.tag));
+        }
+        parsed.attributes.forEach(getElement()::setAttribute);
+
+        if (update && !parsed.tag.equals(getElement().getTag())) {
+            throw new IllegalStateException(
+                    "Existing root tag '" + getElement().getTag()
+                            + "' can't be changed to '" + parsed.tag + "'");
+        }
+
+        setInnerHtml(parsed.innerHtml);
+    }
+
+    private static ParsedHtml parse(String outerHtml) {
         Document doc = Jsoup.parseBodyFragment(outerHtml);
         int nrChildren = doc.body().children().size();
         if (nrChildren != 1) {
@@ -148,31 +212,8 @@ public class Html extends Component {
             throw new IllegalArgumentException(message);
         }
 
-        org.jsoup.nodes.Element root = doc.body().child(0);
-        Attributes attrs = root.attributes();
-
-        if (!update) {
-            Component.setElement(this, new Element(root.tagName()));
-        }
-        attrs.forEach(this::setAttribute);
-
-        if (update && !root.tagName().equals(getElement().getTag())) {
-            throw new IllegalStateException(
-                    "Existing root tag '" + getElement().getTag()
-                            + "' can't be changed to '" + root.tagName() + "'");
-        }
-
         doc.outputSettings().prettyPrint(false);
-        setInnerHtml(root.html());
-    }
-
-    private void setAttribute(Attribute attribute) {
-        String name = attribute.getKey();
-        String value = attribute.getValue();
-        if (value == null) {
-            value = "";
-        }
-        getElement().setAttribute(name, value);
+        return new ParsedHtml(doc.body().child(0));
     }
 
     /**
@@ -62,6 +62,7 @@ import com.vaadin.flow.router.Location;
 import com.vaadin.flow.router.NavigationEvent;
 import com.vaadin.flow.router.NavigationState;
 import com.vaadin.flow.router.NavigationStateBuilder;
+import com.vaadin.flow.router.NavigationTrace;
 import com.vaadin.flow.router.NavigationTrigger;
 import com.vaadin.flow.router.NotFoundException;
 import com.vaadin.flow.router.QueryParameters;
@@ -74,6 +75,7 @@ import com.vaadin.flow.router.RouterLayout;
 import com.vaadin.flow.router.internal.ErrorStateRenderer;
 import com.vaadin.flow.router.internal.ErrorTargetEntry;
 import com.vaadin.flow.router.internal.HasUrlParameterFormat;
+import com.vaadin.flow.router.internal.NavigationTracer;
 import com.vaadin.flow.router.internal.PathUtil;
 import com.vaadin.flow.server.Command;
 import com.vaadin.flow.server.ErrorEvent;
@@ -1223,9 +1225,11 @@ public class UI extends Component
         }
 
         navigationInProgress = true;
+        NavigationTracer tracer = getInternals().startNavigationTrace(location,
+                NavigationTrigger.UI_NAVIGATE);
         try {
-            Optional<NavigationState> navigationState = getInternals()
-                    .getRouter().resolveNavigationTarget(location);
+            Optional<NavigationState> navigationState = resolveNavigationTarget(
+                    location);
 
             if (navigationState.isPresent()) {
                 // Navigation can be done in server side without extra
@@ -1244,6 +1248,7 @@ public class UI extends Component
             }
         } finally {
             navigationInProgress = false;
+            getInternals().finishNavigationTrace(tracer);
         }
     }
 
@@ -2005,23 +2010,42 @@ public class UI extends Component
             return;
         }
         getInternals().setLastHandledNavigation(location);
-        Optional<NavigationState> navigationState = getInternals().getRouter()
-                .resolveNavigationTarget(location);
-        if (navigationState.isPresent()) {
-            // There is a valid route in flow.
-            handleNavigation(location, navigationState.get(), trigger);
-        } else {
-            // When route does not exist, try to navigate to current route
-            // in order to check if current view can be left before showing
-            // the error page
-            navigateToPlaceholder(location);
-
-            if (!isPostponed()) {
-                // Route does not exist, and current view does not prevent
-                // navigation thus an error page is shown
-                handleErrorNavigation(location);
+        NavigationTracer tracer = getInternals().startNavigationTrace(location,
+                trigger);
+        try {
+            Optional<NavigationState> navigationState = resolveNavigationTarget(
+                    location);
+            if (navigationState.isPresent()) {
+                // There is a valid route in flow.
+                handleNavigation(location, navigationState.get(), trigger);
+            } else {
+                // When route does not exist, try to navigate to current route
+                // in order to check if current view can be left before
+                // showing the error page
+                navigateToPlaceholder(location);
+
+                if (!isPostponed()) {
+                    // Route does not exist, and current view does not prevent
+                    // navigation thus an error page is shown
+                    handleErrorNavigation(location);
+                }
+
             }
+        } finally {
+            getInternals().finishNavigationTrace(tracer);
+        }
+    }
 
+    private Optional<NavigationState> resolveNavigationTarget(
+            Location location) {
+        NavigationTracer tracer = NavigationTracer.of(getInternals());
+        long resolutionStart = tracer.begin();
+        try {
+            return getInternals().getRouter()
+                    .resolveNavigationTarget(location);
+        } finally {
+            tracer.end(NavigationTrace.Phase.ROUTE_RESOLUTION,
+                    resolutionStart);
         }
     }
 
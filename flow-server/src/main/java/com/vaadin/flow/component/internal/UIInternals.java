@@ -16,6 +16,7 @@
 package com.vaadin.flow.component.internal;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -52,6 +53,7 @@ import com.vaadin.flow.dom.impl.BasicElementStateProvider;
 import com.vaadin.flow.function.SerializableConsumer;
 import com.vaadin.flow.internal.ConstantPool;
 import com.vaadin.flow.internal.JsonCodec;
+import com.vaadin.flow.internal.LruCache;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.StateTree;
 import com.vaadin.flow.internal.UrlUtil;
@@ -73,6 +75,7 @@ import com.vaadin.flow.router.RouterLayout;
 import com.vaadin.flow.router.internal.AfterNavigationHandler;
 import com.vaadin.flow.router.internal.BeforeEnterHandler;
 import com.vaadin.flow.router.internal.BeforeLeaveHandler;
+import com.vaadin.flow.router.internal.NavigationTracer;
 import com.vaadin.flow.server.Command;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
@@ -81,6 +84,8 @@ import com.vaadin.flow.server.frontend.BundleUtils;
 import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.shared.communication.PushMode;
 
+import elemental.json.JsonValue;
+
 /**
  * Holds UI-specific methods and data which are intended for internal use by the
  * framework.
@@ -93,6 +98,10 @@ import com.vaadin.flow.shared.communication.PushMode;
  */
 public class UIInternals implements Serializable {
 
+    private static final int MAX_SENT_SCRIPT_IDS = 256;
+
+    private static final int MAX_PENDING_NAVIGATION_TRACES = 16;
+
     private static final Pattern APP_ID_REPLACE_PATTERN = Pattern
             .compile("-\\d+$");
 
@@ -170,7 +179,9 @@ public class UIInternals implements Serializable {
      * Updated to the current time whenever the application receives a heartbeat
      * or UIDL request from the client for the related UI.
      */
-    private long lastHeartbeatTimestamp = System.currentTimeMillis();
+    private volatile long lastHeartbeatTimestamp = System.currentTimeMillis();
+
+    private volatile boolean hasHeartbeatListeners;
 
     private List<PendingJavaScriptInvocation> pendingJsInvocations = new ArrayList<>();
 
@@ -200,6 +211,10 @@ public class UIInternals implements Serializable {
 
     private ContinueNavigationAction continueNavigationAction = null;
 
+    private NavigationTracer navigationTracer;
+
+    private ArrayList<NavigationTracer> completedNavigationTracers = null;
+
     /**
      * The Vaadin session to which the related UI belongs.
      */
@@ -209,6 +224,14 @@ public class UIInternals implements Serializable {
 
     private final ConstantPool constantPool = new ConstantPool();
 
+    /**
+     * Ids of the most recently sent scripts. Only a bounded number is kept,
+     * scripts that are repeated rarely enough to be evicted are sent as text
+     * again.
+     */
+    private final LruCache<String, Boolean> sentScriptIds = new LruCache<>(
+            MAX_SENT_SCRIPT_IDS);
+
     private byte[] lastProcessedMessageHash = null;
 
     private String contextRootRelativePath;
@@ -367,9 +390,39 @@ public class UIInternals implements Serializable {
      */
     public void setLastHeartbeatTimestamp(long lastHeartbeat) {
         lastHeartbeatTimestamp = lastHeartbeat;
-        HeartbeatEvent heartbeatEvent = new HeartbeatEvent(ui, lastHeartbeat);
-        getListeners(HeartbeatListener.class)
-                .forEach(listener -> listener.heartbeat(heartbeatEvent));
+        if (hasHeartbeatListeners) {
+            HeartbeatEvent heartbeatEvent = new HeartbeatEvent(ui,
+                    lastHeartbeat);
+            getListeners(HeartbeatListener.class)
+                    .forEach(listener -> listener.heartbeat(heartbeatEvent));
+        }
+    }
+
+    /**
+     * Sets the last heartbeat request timestamp for the related UI without
+     * notifying heartbeat listeners. Unlike
+     * {@link #setLastHeartbeatTimestamp(long)}, this method can be called
+     * without holding the session lock.
+     *
+     * @param lastHeartbeat
+     *            The time the last heartbeat request occurred, in milliseconds
+     *            since the epoch.
+     * @see #hasHeartbeatListeners()
+     */
+    public void setLastHeartbeatTimestampWithoutLock(long lastHeartbeat) {
+        lastHeartbeatTimestamp = lastHeartbeat;
+    }
+
+    /**
+     * Checks whether any heartbeat listeners are registered for the related
+     * UI. This method can be called without holding the session lock.
+     *
+     * @return <code>true</code> if there are heartbeat listeners,
+     *         <code>false</code> otherwise
+     * @see #addHeartbeatListener(HeartbeatListener)
+     */
+    public boolean hasHeartbeatListeners() {
+        return hasHeartbeatListeners;
     }
 
     @SuppressWarnings("unchecked")
@@ -424,6 +477,9 @@ public class UIInternals implements Serializable {
         } else {
             if (session == null) {
                 ui.getElement().getNode().setParent(null);
+                // No response will deliver traces of a detached UI
+                navigationTracer = null;
+                completedNavigationTracers = null;
                 // Disable push when the UI is detached. Otherwise the
                 // push connection and possibly VaadinSession will live on.
                 ui.getPushConfiguration().setPushMode(PushMode.DISABLED);
@@ -518,7 +574,14 @@ public class UIInternals implements Serializable {
     }
 
     public Registration addHeartbeatListener(HeartbeatListener listener) {
-        return addListener(HeartbeatListener.class, listener);
+        Registration registration = addListener(HeartbeatListener.class,
+                listener);
+        hasHeartbeatListeners = true;
+        return () -> {
+            registration.remove();
+            hasHeartbeatListeners = !getListeners(HeartbeatListener.class)
+                    .isEmpty();
+        };
     }
 
     private <E> Registration addListener(Class<E> handler, E listener) {
@@ -1027,6 +1090,20 @@ public class UIInternals implements Serializable {
         return constantPool;
     }
 
+    /**
+     * Records that a JavaScript expression with the given constant pool id is
+     * sent to the client for execution.
+     *
+     * @param scriptId
+     *            the constant pool id of the expression, not {@code null}
+     * @return {@code true} if an expression with the same id has been sent
+     *         recently, {@code false} if it is the first time or the previous
+     *         time is too long ago to be remembered
+     */
+    public boolean markScriptSent(String scriptId) {
+        return sentScriptIds.put(scriptId, Boolean.TRUE) != null;
+    }
+
     /**
      * Get the latest handled location or empty optional if no active
      * navigation.
@@ -1086,6 +1163,123 @@ public class UIInternals implements Serializable {
         setLastHandledNavigation(null);
     }
 
+    /**
+     * Starts tracing a navigation if there are navigation trace listeners
+     * registered and no navigation is currently being traced.
+     *
+     * @param location
+     *            the location being navigated to
+     * @param trigger
+     *            the type of user action that triggered the navigation
+     * @return the started tracer to pass to
+     *         {@link #finishNavigationTrace(NavigationTracer)}, or
+     *         {@link NavigationTracer#DISABLED} if no trace was started
+     */
+    public NavigationTracer startNavigationTrace(Location location,
+            NavigationTrigger trigger) {
+        if (getNavigationTracer().isEnabled()) {
+            // Nested navigation, the outermost navigation is traced
+            return NavigationTracer.DISABLED;
+        }
+        VaadinSession currentSession = getSession();
+        if (currentSession == null || currentSession.getService() == null
+                || !currentSession.getService()
+                        .hasNavigationTraceListeners()) {
+            return NavigationTracer.DISABLED;
+        }
+        navigationTracer = new NavigationTracer(location, trigger);
+        return navigationTracer;
+    }
+
+    /**
+     * Gets the tracer for the navigation currently being handled.
+     *
+     * @return the active navigation tracer, or
+     *         {@link NavigationTracer#DISABLED} if no navigation is traced
+     */
+    public NavigationTracer getNavigationTracer() {
+        return navigationTracer != null ? navigationTracer
+                : NavigationTracer.DISABLED;
+    }
+
+    /**
+     * Finishes tracing a navigation. The trace is delivered to listeners when
+     * the next response to the client is written. If too many traces are
+     * waiting for a response, the oldest one is dropped.
+     *
+     * @param tracer
+     *            the tracer returned by
+     *            {@link #startNavigationTrace(Location, NavigationTrigger)}
+     */
+    public void finishNavigationTrace(NavigationTracer tracer) {
+        if (!tracer.isEnabled()) {
+            return;
+        }
+        if (navigationTracer == tracer) {
+            navigationTracer = null;
+        }
+        if (completedNavigationTracers == null) {
+            completedNavigationTracers = new ArrayList<>();
+        } else if (completedNavigationTracers
+                .size() >= MAX_PENDING_NAVIGATION_TRACES) {
+            // No response has been written for a while, e.g. navigations
+            // triggered from background threads without push
+            getLogger().debug(
+                    "Dropping the oldest navigation trace, no response has been written");
+            completedNavigationTracers.remove(0);
+        }
+        completedNavigationTracers.add(tracer);
+    }
+
+    /**
+     * Gets the finished navigation tracers waiting for a response to be
+     * written and clears the list.
+     *
+     * @return a list of finished navigation tracers, not {@code null}
+     */
+    public List<NavigationTracer> dumpCompletedNavigationTracers() {
+        if (completedNavigationTracers == null) {
+            return Collections.emptyList();
+        }
+        List<NavigationTracer> tracers = completedNavigationTracers;
+        completedNavigationTracers = null;
+        return tracers;
+    }
+
+    /**
+     * Delivers the navigation traces finished since the previous response to
+     * the registered navigation trace listeners.
+     *
+     * @param response
+     *            the response written to the client, used to report the
+     *            response size in bytes
+     */
+    public void fireCompletedNavigationTraces(String response) {
+        List<NavigationTracer> tracers = dumpCompletedNavigationTracers();
+        if (tracers.isEmpty() || session == null) {
+            return;
+        }
+        VaadinService service = session.getService();
+        int responseSize = response.getBytes(StandardCharsets.UTF_8).length;
+        tracers.forEach(tracer -> service
+                .fireNavigationTraceListeners(tracer.toTrace(responseSize)));
+    }
+
+    /**
+     * Delivers the navigation traces finished since the previous response to
+     * the registered navigation trace listeners. The response is only
+     * serialized to compute its size if there are traces to deliver.
+     *
+     * @param response
+     *            the JSON response written to the client, used to report the
+     *            response size in bytes
+     */
+    public void fireCompletedNavigationTraces(JsonValue response) {
+        if (completedNavigationTracers != null) {
+            fireCompletedNavigationTraces(response.toJson());
+        }
+    }
+
     /**
      * Get stored {@link ContinueNavigationAction} if any.
      *
@@ -299,6 +299,28 @@ public interface DeploymentConfiguration
                 false);
     }
 
+    /**
+     * Checks whether the Vaadin session should be written again to the
+     * underlying HTTP session at the end of each request that changed it.
+     * <p>
+     * Containers that replicate session attributes when they are set can use
+     * this to replicate the Vaadin session only after requests that actually
+     * changed the state of a UI or the session, instead of never or after
+     * every request.
+     * <p>
+     * By default, the Vaadin session is only written to the HTTP session when
+     * it is created.
+     *
+     * @return <code>true</code> to write changed sessions to the HTTP session
+     *         after each request, <code>false</code> otherwise
+     * @see InitParameters#SERVLET_PARAMETER_REPLICATE_CHANGED_SESSIONS
+     */
+    default boolean isReplicateChangedSessions() {
+        return getBooleanProperty(
+                InitParameters.SERVLET_PARAMETER_REPLICATE_CHANGED_SESSIONS,
+                false);
+    }
+
     /**
      * Checks if dev mode live reload is enabled or not.
      * <p>
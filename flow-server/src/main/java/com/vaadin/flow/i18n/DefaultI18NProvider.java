@@ -16,12 +16,19 @@
 
 package com.vaadin.flow.i18n;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.text.MessageFormat;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +42,13 @@ public class DefaultI18NProvider implements I18NProvider {
     final List<Locale> providedLocales;
     private final ClassLoader classLoader;
 
+    /**
+     * Compiled message formats per locale and translation key. A cached format
+     * is only reused while the translation value it was compiled from is
+     * unchanged, so reloaded bundles are picked up automatically.
+     */
+    private transient Map<Locale, Map<String, CachedFormat>> formatCache = new ConcurrentHashMap<>();
+
     public static final String BUNDLE_FOLDER = "vaadin-i18n";
     public static final String BUNDLE_FILENAME = "translations";
     // Get bundles named `translations` from `vaadin-i18n` folder.
@@ -85,7 +99,31 @@ public class DefaultI18NProvider implements I18NProvider {
         if (bundle == null) {
             return key;
         }
+        return getTranslation(bundle, key, locale, params);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The translation bundle is only looked up once for all the keys.
+     */
+    @Override
+    public Map<String, String> getTranslations(Collection<String> keys,
+            Locale locale) {
+        Map<String, String> translations = new LinkedHashMap<>();
+        final ResourceBundle bundle = getBundle(locale);
+        for (String key : keys) {
+            if (bundle == null) {
+                translations.put(key, key);
+            } else {
+                translations.put(key, getTranslation(bundle, key, locale));
+            }
+        }
+        return translations;
+    }
 
+    private String getTranslation(ResourceBundle bundle, String key,
+            Locale locale, Object... params) {
         String value;
         try {
             value = bundle.getString(key);
@@ -94,11 +132,22 @@ public class DefaultI18NProvider implements I18NProvider {
             return "!" + locale.getLanguage() + ": " + key;
         }
         if (params.length > 0) {
-            value = new MessageFormat(value, locale).format(params);
+            value = getFormat(key, value, locale).format(params);
         }
         return value;
     }
 
+    private CachedFormat getFormat(String key, String pattern, Locale locale) {
+        Map<String, CachedFormat> formats = formatCache
+                .computeIfAbsent(locale, l -> new ConcurrentHashMap<>());
+        CachedFormat format = formats.get(key);
+        if (format == null || !format.pattern.equals(pattern)) {
+            format = new CachedFormat(pattern, locale);
+            formats.put(key, format);
+        }
+        return format;
+    }
+
     private ResourceBundle getBundle(Locale locale) {
         try {
             return getBundle(locale, null);
@@ -117,8 +166,32 @@ public class DefaultI18NProvider implements I18NProvider {
                 control);
     }
 
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        formatCache = new ConcurrentHashMap<>();
+    }
+
     static Logger getLogger() {
         return LoggerFactory.getLogger(DefaultI18NProvider.class);
     }
 
+    /**
+     * A message format compiled from a translation value. Message formats are
+     * not thread safe, so formatting is synchronized on the instance.
+     */
+    private static class CachedFormat implements Serializable {
+        private final String pattern;
+        private final MessageFormat format;
+
+        private CachedFormat(String pattern, Locale locale) {
+            this.pattern = pattern;
+            format = new MessageFormat(pattern, locale);
+        }
+
+        private synchronized String format(Object... params) {
+            return format.format(params);
+        }
+    }
+
 }
@@ -16,8 +16,11 @@
 package com.vaadin.flow.i18n;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import com.vaadin.flow.internal.LocaleUtil;
 
@@ -70,6 +73,27 @@ public interface I18NProvider extends Serializable {
         return getTranslation(key.toString(), locale, params);
     }
 
+    /**
+     * Get the translations for the given keys with given locale. Providers can
+     * override this to look up the translations in one go instead of one key
+     * at a time.
+     *
+     * @param keys
+     *            translation keys, not <code>null</code>
+     * @param locale
+     *            locale to use
+     * @return a map from each key to its translation, in the iteration order of
+     *         the given keys
+     */
+    default Map<String, String> getTranslations(Collection<String> keys,
+            Locale locale) {
+        Map<String, String> translations = new LinkedHashMap<>();
+        for (String key : keys) {
+            translations.put(key, getTranslation(key, locale));
+        }
+        return translations;
+    }
+
     /**
      * Get the translation for key via {@link I18NProvider} instance retrieved
      * from the current VaadinService. Uses the current UI locale, or if not
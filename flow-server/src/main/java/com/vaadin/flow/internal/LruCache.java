@@ -0,0 +1,99 @@
+/*
+ * Copyright 2000-2024 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A thread-safe map that keeps at most a given number of entries. When the
+ * limit is exceeded, the least recently used entry is removed.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @param <K>
+ *            the key type
+ * @param <V>
+ *            the value type
+ */
+public class LruCache<K, V> implements Serializable {
+
+    private final Entries<K, V> entries;
+
+    private static class Entries<K, V> extends LinkedHashMap<K, V> {
+        private final int maxEntries;
+
+        private Entries(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxEntries;
+        }
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxEntries
+     *            the maximum number of entries to keep, greater than zero
+     */
+    public LruCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException(
+                    "The maximum number of entries must be greater than zero");
+        }
+        entries = new Entries<>(maxEntries);
+    }
+
+    /**
+     * Gets the value for the given key and marks the entry as recently used.
+     *
+     * @param key
+     *            the key to look up
+     * @return the cached value, or {@code null} if there is none
+     */
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Stores a value for the given key, removing the least recently used
+     * entry if the cache is full.
+     *
+     * @param key
+     *            the key to store the value for
+     * @param value
+     *            the value to store
+     * @return the previous value for the key, or {@code null} if there was
+     *         none
+     */
+    public synchronized V put(K key, V value) {
+        return entries.put(key, value);
+    }
+
+    /**
+     * Gets the number of entries in the cache.
+     *
+     * @return the number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+}
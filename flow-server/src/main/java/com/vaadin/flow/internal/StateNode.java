@@ -16,6 +16,7 @@
 
 package com.vaadin.flow.internal;
 
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,6 +35,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.component.Component;
@@ -133,6 +135,52 @@ public class StateNode implements Serializable {
                     .forEach(key -> mappings.put(key,
                             Integer.valueOf(mappings.size())));
         }
+
+        /**
+         * Replaces this instance with a compact representation based on node
+         * feature ids when serialized.
+         *
+         * @return the serialized form of this feature set
+         */
+        private Object writeReplace() {
+            return new SerializedFeatureSet(this);
+        }
+    }
+
+    /**
+     * Serialized form of a {@link FeatureSet}. Node feature types are written
+     * as their ids in {@link NodeFeatureRegistry} instead of class references
+     * and the index mappings are recomputed when deserializing. The
+     * deserialized feature set is the instance from {@link #featureSetCache},
+     * so that it is shared with all other nodes using the same features.
+     */
+    private static class SerializedFeatureSet implements Serializable {
+        private final int[] reportedFeatureIds;
+        private final int[] additionalFeatureIds;
+
+        private SerializedFeatureSet(FeatureSet featureSet) {
+            reportedFeatureIds = featureSet.reportedFeatures.stream()
+                    .mapToInt(NodeFeatureRegistry::getId).toArray();
+            additionalFeatureIds = featureSet.mappings.keySet().stream()
+                    .filter(type -> !featureSet.reportedFeatures
+                            .contains(type))
+                    .mapToInt(NodeFeatureRegistry::getId).toArray();
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object readResolve() throws ObjectStreamException {
+            List<Class<? extends NodeFeature>> reportedFeatures = IntStream
+                    .of(reportedFeatureIds)
+                    .mapToObj(NodeFeatureRegistry::getFeature)
+                    .collect(Collectors.toList());
+            Class<? extends NodeFeature>[] additionalFeatures = IntStream
+                    .of(additionalFeatureIds)
+                    .mapToObj(NodeFeatureRegistry::getFeature)
+                    .toArray(Class[]::new);
+            return featureSetCache.computeIfAbsent(
+                    new FeatureSetKey(reportedFeatures, additionalFeatures),
+                    FeatureSet::new);
+        }
     }
 
     private static class ReplacedViaPreserveOnRefresh implements Serializable {
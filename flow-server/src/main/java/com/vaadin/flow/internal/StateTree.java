@@ -159,6 +159,8 @@ public class StateTree implements NodeOwner {
 
     private Set<StateNode> dirtyNodes = new LinkedHashSet<>();
 
+    private transient boolean changedSinceCheckpoint;
+
     private final Map<Integer, StateNode> idToNode = new HashMap<>();
 
     private int nextId = 1;
@@ -305,6 +307,7 @@ public class StateTree implements NodeOwner {
         checkHasLock();
 
         dirtyNodes.add(node);
+        changedSinceCheckpoint = true;
     }
 
     /**
@@ -448,6 +451,29 @@ public class StateTree implements NodeOwner {
         return hasDirtyNodes() || hasCallbacks();
     }
 
+    /**
+     * Checks if any node in this tree has been marked as dirty since the last
+     * time {@link #clearChangesSinceCheckpoint()} was invoked. Unlike
+     * {@link #hasDirtyNodes()}, this is not reset when changes are sent to the
+     * client side.
+     *
+     * @return <code>true</code> if the tree has changed since the last
+     *         checkpoint, <code>false</code> otherwise
+     */
+    public boolean hasChangesSinceCheckpoint() {
+        return changedSinceCheckpoint;
+    }
+
+    /**
+     * Marks the current state of this tree as a checkpoint, e.g. after the
+     * session containing it has been replicated.
+     *
+     * @see #hasChangesSinceCheckpoint()
+     */
+    public void clearChangesSinceCheckpoint() {
+        changedSinceCheckpoint = false;
+    }
+
     private void checkHasLock() {
         VaadinSession session = uiInternals.getSession();
         if (session != null) {
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2000-2024 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.router;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.vaadin.flow.component.Component;
+
+/**
+ * Timing information collected for a single completed navigation.
+ * <p>
+ * Traces are only collected when at least one
+ * {@link NavigationTraceListener} has been registered through
+ * {@link com.vaadin.flow.server.VaadinService#addNavigationTraceListener(NavigationTraceListener)}.
+ * They are delivered once the response to the client containing the result
+ * of the navigation has been created.
+ *
+ * @see NavigationTraceListener
+ */
+public class NavigationTrace implements Serializable {
+
+    /**
+     * The phases of the navigation pipeline that are timed separately.
+     */
+    public enum Phase {
+        /**
+         * Resolving the navigation target for the location.
+         */
+        ROUTE_RESOLUTION,
+        /**
+         * Running {@link BeforeLeaveObserver}s and
+         * {@link BeforeLeaveListener}s.
+         */
+        BEFORE_LEAVE,
+        /**
+         * Creating the route target and its parent layouts.
+         */
+        INSTANTIATION,
+        /**
+         * Running {@link BeforeEnterObserver}s and
+         * {@link BeforeEnterListener}s, excluding the time spent creating the
+         * route target chain.
+         */
+        BEFORE_ENTER,
+        /**
+         * Attaching the route target chain to the UI.
+         */
+        ATTACH,
+        /**
+         * Running {@link AfterNavigationObserver}s and
+         * {@link AfterNavigationListener}s.
+         */
+        AFTER_NAVIGATION
+    }
+
+    private final Location location;
+    private final NavigationTrigger trigger;
+    private final Class<? extends Component> navigationTarget;
+    private final int statusCode;
+    private final Map<Phase, Long> phaseNanos;
+    private final int createdComponents;
+    private final int uidlSize;
+
+    /**
+     * Creates a new navigation trace.
+     *
+     * @param location
+     *            the location that was navigated to, not {@code null}
+     * @param trigger
+     *            the type of user action that triggered the navigation, not
+     *            {@code null}
+     * @param navigationTarget
+     *            the navigation target that was eventually shown, or
+     *            {@code null} if no target was shown
+     * @param statusCode
+     *            the HTTP status code resulting from the navigation
+     * @param phaseNanos
+     *            the time spent in each phase in nanoseconds, not
+     *            {@code null}
+     * @param createdComponents
+     *            the number of route chain components created by the
+     *            navigation
+     * @param uidlSize
+     *            the size of the response containing the navigation result in
+     *            bytes, or {@code -1} if not known
+     */
+    public NavigationTrace(Location location, NavigationTrigger trigger,
+            Class<? extends Component> navigationTarget, int statusCode,
+            Map<Phase, Long> phaseNanos, int createdComponents, int uidlSize) {
+        this.location = location;
+        this.trigger = trigger;
+        this.navigationTarget = navigationTarget;
+        this.statusCode = statusCode;
+        this.phaseNanos = phaseNanos.isEmpty()
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new EnumMap<>(phaseNanos));
+        this.createdComponents = createdComponents;
+        this.uidlSize = uidlSize;
+    }
+
+    /**
+     * Gets the location that was navigated to.
+     *
+     * @return the location, not {@code null}
+     */
+    public Location getLocation() {
+        return location;
+    }
+
+    /**
+     * Gets the type of user action that triggered the navigation.
+     *
+     * @return the navigation trigger, not {@code null}
+     */
+    public NavigationTrigger getTrigger() {
+        return trigger;
+    }
+
+    /**
+     * Gets the navigation target that was shown as the result of the
+     * navigation. This is an error view if the navigation was rerouted to one.
+     *
+     * @return the navigation target, or {@code null} if no target was shown
+     */
+    public Class<? extends Component> getNavigationTarget() {
+        return navigationTarget;
+    }
+
+    /**
+     * Gets the HTTP status code resulting from the navigation.
+     *
+     * @return the status code
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Gets the time spent in the given phase.
+     *
+     * @param phase
+     *            the phase to get the duration for, not {@code null}
+     * @return the time spent in the phase, {@link Duration#ZERO} if the phase
+     *         was not run
+     */
+    public Duration getDuration(Phase phase) {
+        return Duration.ofNanos(phaseNanos.getOrDefault(phase, 0L));
+    }
+
+    /**
+     * Gets the total time spent in all phases.
+     *
+     * @return the total time spent in the navigation pipeline
+     */
+    public Duration getTotalDuration() {
+        return Duration.ofNanos(phaseNanos.values().stream()
+                .mapToLong(Long::longValue).sum());
+    }
+
+    /**
+     * Gets the number of route targets and parent layouts that were created
+     * by the navigation, not counting instances that were reused.
+     *
+     * @return the number of created route chain components
+     */
+    public int getCreatedComponents() {
+        return createdComponents;
+    }
+
+    /**
+     * Gets the size of the response containing the navigation result.
+     *
+     * @return the size of the response in bytes, or {@code -1} if not known
+     */
+    public int getUidlSize() {
+        return uidlSize;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("NavigationTrace[location='")
+                .append(location.getPathWithQueryParameters())
+                .append("', target=")
+                .append(navigationTarget == null ? null
+                        : navigationTarget.getName())
+                .append(", status=").append(statusCode);
+        for (Phase phase : Phase.values()) {
+            builder.append(", ").append(phase.name().toLowerCase())
+                    .append('=').append(getDuration(phase).toNanos() / 1000)
+                    .append("us");
+        }
+        return builder.append(", createdComponents=")
+                .append(createdComponents).append(", uidlSize=")
+                .append(uidlSize).append(']').toString();
+    }
+}
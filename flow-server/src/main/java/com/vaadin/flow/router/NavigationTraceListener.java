@@ -0,0 +1,41 @@
+/*
+ * Copyright 2000-2024 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.router;
+
+import java.io.Serializable;
+
+/**
+ * Listener that receives a {@link NavigationTrace} for each completed
+ * navigation, breaking the server side time down per navigation phase.
+ * <p>
+ * Tracing starts for navigations that begin after the first listener has been
+ * added. Traces are delivered on the request thread that writes the response,
+ * e.g. to forward them to a log or a metrics system.
+ *
+ * @see com.vaadin.flow.server.VaadinService#addNavigationTraceListener(NavigationTraceListener)
+ */
+@FunctionalInterface
+public interface NavigationTraceListener extends Serializable {
+
+    /**
+     * Invoked when a navigation has completed and the response containing its
+     * result has been written to the client.
+     *
+     * @param trace
+     *            the collected navigation trace, not {@code null}
+     */
+    void navigationTraced(NavigationTrace trace);
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2000-2024 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.router;
+
+import java.io.Serializable;
+
+/**
+ * A navigation target annotated with {@link ReuseRouteTarget} that needs to
+ * reset its state before a kept instance is shown again.
+ *
+ * @see ReuseRouteTarget
+ */
+@FunctionalInterface
+public interface ReusableRouteTarget extends Serializable {
+
+    /**
+     * Resets the state of this navigation target before it is reused. Called
+     * before any navigation lifecycle events are fired to the reused instance.
+     */
+    void reset();
+}
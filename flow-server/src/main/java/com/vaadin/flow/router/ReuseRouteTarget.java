@@ -0,0 +1,70 @@
+/*
+ * Copyright 2000-2024 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.router;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that instances of a navigation target should be kept after
+ * navigating away from them and reused for later navigations to the same
+ * target in the same UI, instead of creating a new instance every time.
+ * <p>
+ * Use this for views that are expensive to construct. A reused instance is
+ * attached again as is, so any state that should not survive should be reset
+ * in a {@link BeforeEnterObserver} or by implementing
+ * {@link ReusableRouteTarget}.
+ * <p>
+ * Kept instances are bound to the UI they were created for and are released
+ * when the UI is closed, when more than {@link #maxInstances()} instances of
+ * the same type are kept or when an instance has not been reused for
+ * {@link #maxIdleSeconds()} seconds. Idle instances of all types are released
+ * on the next navigation in the UI that takes or keeps a reusable target.
+ * There is no background eviction, so the instances kept by a UI that does not
+ * navigate anymore are only released when the UI is closed.
+ * <p>
+ * This annotation only affects the navigation target itself, router layouts
+ * are already reused while they remain part of the route chain. It has no
+ * effect on targets annotated with {@link PreserveOnRefresh}.
+ *
+ * @see ReusableRouteTarget
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+@Documented
+public @interface ReuseRouteTarget {
+
+    /**
+     * The maximum number of detached instances of the navigation target kept
+     * for reuse in a single UI.
+     *
+     * @return the maximum number of kept instances
+     */
+    int maxInstances() default 1;
+
+    /**
+     * The time in seconds after which a detached instance that hasn't been
+     * reused is released.
+     *
+     * @return the maximum idle time in seconds
+     */
+    int maxIdleSeconds() default 300;
+}
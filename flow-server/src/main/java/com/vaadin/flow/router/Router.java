@@ -25,6 +25,7 @@ import com.vaadin.flow.router.internal.ErrorStateRenderer;
 import com.vaadin.flow.router.internal.ErrorTargetEntry;
 import com.vaadin.flow.router.internal.InternalRedirectHandler;
 import com.vaadin.flow.router.internal.NavigationStateRenderer;
+import com.vaadin.flow.router.internal.NavigationTracer;
 import com.vaadin.flow.router.internal.ResolveRequest;
 import com.vaadin.flow.server.ErrorRouteRegistry;
 import com.vaadin.flow.server.HttpStatusCode;
@@ -230,6 +231,8 @@ public class Router implements Serializable {
         ui.getSession().checkHasLock();
 
         if (handleNavigationForLocation(ui, location)) {
+            NavigationTracer tracer = ui.getInternals()
+                    .startNavigationTrace(location, trigger);
             try {
                 return handleNavigation(ui, location, trigger, state,
                         forceInstantiation, recreateLayoutChain);
@@ -238,6 +241,7 @@ public class Router implements Serializable {
                         trigger, state);
             } finally {
                 ui.getInternals().clearLastHandledNavigation();
+                ui.getInternals().finishNavigationTrace(tracer);
             }
         }
         return HttpStatusCode.NOT_MODIFIED.getCode();
@@ -255,8 +259,11 @@ public class Router implements Serializable {
     private int handleNavigation(UI ui, Location location,
             NavigationTrigger trigger, JsonValue state,
             boolean forceInstantiation, boolean recreateLayoutChain) {
+        NavigationTracer tracer = NavigationTracer.of(ui.getInternals());
+        long resolutionStart = tracer.begin();
         NavigationState newState = getRouteResolver()
                 .resolve(new ResolveRequest(this, location));
+        tracer.end(NavigationTrace.Phase.ROUTE_RESOLUTION, resolutionStart);
         if (newState != null) {
             NavigationEvent navigationEvent = new NavigationEvent(this,
                     location, ui, trigger, state, false, forceInstantiation,
@@ -266,8 +273,11 @@ public class Router implements Serializable {
             return handler.handle(navigationEvent);
         } else if (!location.getPath().isEmpty()) {
             Location slashToggledLocation = location.toggleTrailingSlash();
+            resolutionStart = tracer.begin();
             NavigationState slashToggledState = getRouteResolver()
                     .resolve(new ResolveRequest(this, slashToggledLocation));
+            tracer.end(NavigationTrace.Phase.ROUTE_RESOLUTION,
+                    resolutionStart);
             if (slashToggledState != null) {
                 NavigationEvent navigationEvent = new NavigationEvent(this,
                         slashToggledLocation, ui, trigger, state, false,
@@ -57,6 +57,7 @@ import com.vaadin.flow.router.LocationChangeEvent;
 import com.vaadin.flow.router.NavigationEvent;
 import com.vaadin.flow.router.NavigationHandler;
 import com.vaadin.flow.router.NavigationState;
+import com.vaadin.flow.router.NavigationTrace.Phase;
 import com.vaadin.flow.router.NavigationTrigger;
 import com.vaadin.flow.router.NotFoundException;
 import com.vaadin.flow.router.PageTitle;
@@ -141,13 +142,23 @@ public abstract class AbstractNavigationStateRenderer
                                 .getApplicationClass(component)
                                 .equals(routeTargetType))
                         .findAny();
-        return (T) currentInstance.orElseGet(
-                () -> instantiator.createRouteTarget(routeTargetType, event));
+        return (T) currentInstance.orElseGet(() -> {
+            if (lastElement && !event.isForceInstantiation()
+                    && RouteTargetPool.isReusable(routeTargetType)) {
+                T pooled = RouteTargetPool.take(ui, routeTargetType);
+                if (pooled != null) {
+                    return pooled;
+                }
+            }
+            NavigationTracer.of(ui.getInternals()).componentCreated();
+            return instantiator.createRouteTarget(routeTargetType, event);
+        });
     }
 
     @Override
     public int handle(NavigationEvent event) {
         UI ui = event.getUI();
+        NavigationTracer tracer = NavigationTracer.of(ui.getInternals());
 
         final Class<? extends Component> routeTargetType = navigationState
                 .getNavigationTarget();
@@ -164,11 +175,15 @@ public abstract class AbstractNavigationStateRenderer
         clearContinueNavigationAction(ui);
         checkForDuplicates(routeTargetType, routeLayoutTypes);
 
+        tracer.setNavigationTarget(routeTargetType);
+
         BeforeLeaveEvent beforeNavigationDeactivating = new BeforeLeaveEvent(
                 event, routeTargetType, parameters, routeLayoutTypes);
 
+        long phaseStart = tracer.begin();
         Optional<Integer> result = executeBeforeLeaveNavigation(event,
                 beforeNavigationDeactivating);
+        tracer.end(Phase.BEFORE_LEAVE, phaseStart);
 
         if (result.isPresent()) {
             return result.get();
@@ -221,8 +236,14 @@ public abstract class AbstractNavigationStateRenderer
         BeforeEnterEvent beforeNavigationActivating = new BeforeEnterEvent(
                 event, routeTargetType, parameters, routeLayoutTypes);
 
+        phaseStart = tracer.begin();
+        long instantiationNanos = tracer.getNanos(Phase.INSTANTIATION);
         result = createChainIfEmptyAndExecuteBeforeEnterNavigation(
                 beforeNavigationActivating, event, chain);
+        // Chain instantiation is interleaved with the before enter events but
+        // is reported as its own phase
+        tracer.end(Phase.BEFORE_ENTER, phaseStart
+                + tracer.getNanos(Phase.INSTANTIATION) - instantiationNanos);
         if (result.isPresent()) {
             return result.get();
         }
@@ -239,9 +260,22 @@ public abstract class AbstractNavigationStateRenderer
         List<RouterLayout> routerLayouts = (List<RouterLayout>) (List<?>) chain
                 .subList(1, chain.size());
 
+        List<HasElement> previousChain = ui.getInternals()
+                .getActiveRouterTargetsChain();
+
         // Change the UI according to the navigation Component chain.
+        phaseStart = tracer.begin();
         ui.getInternals().showRouteTarget(event.getLocation(),
                 componentInstance, routerLayouts);
+        tracer.end(Phase.ATTACH, phaseStart);
+
+        RouteTargetPool.navigationCommitted(ui, componentInstance);
+
+        // Keep the previous navigation target around if it should be reused
+        if (!previousChain.isEmpty()
+                && previousChain.get(0) != componentInstance) {
+            RouteTargetPool.release(ui, previousChain.get(0));
+        }
 
         int statusCode = locationChangeEvent.getStatusCode();
         validateStatusCode(statusCode, routeTargetType);
@@ -252,12 +286,15 @@ public abstract class AbstractNavigationStateRenderer
         afterNavigationHandlers
                 .addAll(EventUtil.collectAfterNavigationObservers(ui));
 
+        phaseStart = tracer.begin();
         fireAfterNavigationListeners(
                 new AfterNavigationEvent(locationChangeEvent, parameters),
                 afterNavigationHandlers);
+        tracer.end(Phase.AFTER_NAVIGATION, phaseStart);
 
         updatePageTitle(event, componentInstance);
 
+        tracer.setStatusCode(statusCode);
         return statusCode;
     }
 
@@ -495,9 +532,13 @@ public abstract class AbstractNavigationStateRenderer
         List<Class<? extends HasElement>> typesChain = getTypesChain();
 
         try {
+            NavigationTracer tracer = NavigationTracer
+                    .of(event.getUI().getInternals());
             for (int i = 0; i < typesChain.size(); i++) {
+                long instantiationStart = tracer.begin();
                 HasElement element = getRouteTarget(typesChain.get(i), event,
                         i == typesChain.size() - 1);
+                tracer.end(Phase.INSTANTIATION, instantiationStart);
 
                 if (!beforeNavigation.isErrorEvent()) {
                     UsageStatistics.markAsUsed(Constants.STATISTICS_FLOW_ROUTER,
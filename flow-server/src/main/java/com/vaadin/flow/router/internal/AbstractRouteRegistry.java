@@ -99,6 +99,13 @@ public abstract class AbstractRouteRegistry implements RouteRegistry {
     private volatile ConfiguredRoutes configuredRoutes = new ConfiguredRoutes();
     private volatile ConfigureRoutes editing = null;
 
+    /**
+     * Registered routes computed from the published configuration. As a
+     * published {@link ConfiguredRoutes} is never modified, the result is
+     * reused until the next configuration is published.
+     */
+    private transient volatile RegisteredRoutes registeredRoutes;
+
     private CopyOnWriteArrayList<RoutesChangedListener> routesChangedListeners = new CopyOnWriteArrayList<>();
 
     /**
@@ -199,7 +206,9 @@ public abstract class AbstractRouteRegistry implements RouteRegistry {
      * @return current state of the registry as a value object
      */
     public ConfiguredRoutes getConfiguration() {
-        if (configurationLock.isHeldByCurrentThread() && editing != null) {
+        // Check the volatile field first so that plain lookups never query
+        // the lock state
+        if (editing != null && configurationLock.isHeldByCurrentThread()) {
             return editing;
         }
         return configuredRoutes;
@@ -207,7 +216,18 @@ public abstract class AbstractRouteRegistry implements RouteRegistry {
 
     @Override
     public List<RouteData> getRegisteredRoutes() {
-        return getRegisteredRoutes(getConfiguration());
+        ConfiguredRoutes configuration = getConfiguration();
+        if (configuration instanceof ConfigureRoutes) {
+            // Mutable configuration being edited, can't be cached
+            return getRegisteredRoutes(configuration);
+        }
+        RegisteredRoutes cached = registeredRoutes;
+        if (cached == null || cached.configuration() != configuration) {
+            cached = new RegisteredRoutes(configuration,
+                    getRegisteredRoutes(configuration));
+            registeredRoutes = cached;
+        }
+        return cached.routes();
     }
 
     @Override
@@ -259,6 +279,14 @@ public abstract class AbstractRouteRegistry implements RouteRegistry {
                 .toList();
     }
 
+    /**
+     * Registered routes together with the configuration snapshot they were
+     * computed from.
+     */
+    private record RegisteredRoutes(ConfiguredRoutes configuration,
+            List<RouteData> routes) implements Serializable {
+    }
+
     private Stream<RouteData> getMenuRouteCandidates() {
         return getRegisteredRoutes().stream()
                 .filter(route -> route.getMenuData() != null);
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2000-2024 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.router.internal;
+
+import java.io.Serializable;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.internal.UIInternals;
+import com.vaadin.flow.router.Location;
+import com.vaadin.flow.router.NavigationTrace;
+import com.vaadin.flow.router.NavigationTrace.Phase;
+import com.vaadin.flow.router.NavigationTrigger;
+import com.vaadin.flow.server.HttpStatusCode;
+
+/**
+ * Collects the data for a {@link NavigationTrace} while a navigation is being
+ * handled.
+ * <p>
+ * When tracing is disabled the {@link #DISABLED} instance is used, which
+ * doesn't read the clock or record anything.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ */
+public class NavigationTracer implements Serializable {
+
+    /**
+     * Tracer that does nothing, used when no one is listening to navigation
+     * traces.
+     */
+    public static final NavigationTracer DISABLED = new NavigationTracer(null,
+            null) {
+        @Override
+        public long begin() {
+            return 0;
+        }
+
+        @Override
+        public void end(Phase phase, long start) {
+            // NOP
+        }
+
+        @Override
+        public long getNanos(Phase phase) {
+            return 0;
+        }
+
+        @Override
+        public void componentCreated() {
+            // NOP
+        }
+
+        @Override
+        public void setNavigationTarget(
+                Class<? extends Component> navigationTarget) {
+            // NOP
+        }
+
+        @Override
+        public void setStatusCode(int statusCode) {
+            // NOP
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    /**
+     * Gets the tracer for the navigation currently being handled by the UI
+     * with the given internals. Falls back to {@link #DISABLED} if the
+     * internals don't provide a tracer, e.g. when they are mocked.
+     *
+     * @param internals
+     *            the UI internals, not {@code null}
+     * @return the active navigation tracer, or {@link #DISABLED} if no
+     *         navigation is traced
+     */
+    public static NavigationTracer of(UIInternals internals) {
+        NavigationTracer tracer = internals.getNavigationTracer();
+        return tracer != null ? tracer : DISABLED;
+    }
+
+    private final Location location;
+    private final NavigationTrigger trigger;
+    private final Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+    private Class<? extends Component> navigationTarget;
+    private int createdComponents;
+    private int statusCode = HttpStatusCode.OK.getCode();
+
+    /**
+     * Creates a new tracer for a navigation.
+     *
+     * @param location
+     *            the location being navigated to
+     * @param trigger
+     *            the type of user action that triggered the navigation
+     */
+    public NavigationTracer(Location location, NavigationTrigger trigger) {
+        this.location = location;
+        this.trigger = trigger;
+    }
+
+    /**
+     * Gets the start time for a phase.
+     *
+     * @return the start time to pass to {@link #end(Phase, long)}
+     */
+    public long begin() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the time passed since the given start time for the given phase.
+     * Time recorded for the same phase multiple times is summed up.
+     *
+     * @param phase
+     *            the phase that ended
+     * @param start
+     *            the start time from {@link #begin()}
+     */
+    public void end(Phase phase, long start) {
+        phaseNanos.merge(phase, System.nanoTime() - start, Long::sum);
+    }
+
+    /**
+     * Gets the time recorded so far for the given phase.
+     *
+     * @param phase
+     *            the phase to get the time for
+     * @return the recorded time in nanoseconds
+     */
+    public long getNanos(Phase phase) {
+        return phaseNanos.getOrDefault(phase, 0L);
+    }
+
+    /**
+     * Records that a route chain component was created.
+     */
+    public void componentCreated() {
+        createdComponents++;
+    }
+
+    /**
+     * Sets the navigation target being shown.
+     *
+     * @param navigationTarget
+     *            the navigation target
+     */
+    public void setNavigationTarget(
+            Class<? extends Component> navigationTarget) {
+        this.navigationTarget = navigationTarget;
+    }
+
+    /**
+     * Sets the HTTP status code resulting from the navigation.
+     *
+     * @param statusCode
+     *            the status code
+     */
+    public void setStatusCode(int statusCode) {
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * Checks whether this tracer records anything.
+     *
+     * @return {@code true} if tracing is enabled, {@code false} otherwise
+     */
+    public boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Creates the navigation trace from the recorded data.
+     *
+     * @param uidlSize
+     *            the size of the response containing the navigation result in
+     *            bytes, or {@code -1} if not known
+     * @return the navigation trace
+     */
+    public NavigationTrace toTrace(int uidlSize) {
+        return new NavigationTrace(location, trigger, navigationTarget,
+                statusCode, phaseNanos, createdComponents, uidlSize);
+    }
+}
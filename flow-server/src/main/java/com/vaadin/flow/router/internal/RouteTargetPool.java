@@ -0,0 +1,272 @@
+/*
+ * Copyright 2000-2024 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.router.internal;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.HasElement;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.di.Instantiator;
+import com.vaadin.flow.router.PreserveOnRefresh;
+import com.vaadin.flow.router.ReusableRouteTarget;
+import com.vaadin.flow.router.ReuseRouteTarget;
+
+/**
+ * Keeps detached instances of navigation targets annotated with
+ * {@link ReuseRouteTarget} for reuse within a UI.
+ * <p>
+ * Instances are keyed by their application class, see
+ * {@link Instantiator#getApplicationClass(Object)}, so that instances created
+ * as proxies or subclasses are found again. Idle instances are only evicted
+ * when an instance is taken from or released to the pool, there is no
+ * background eviction. The instances of a UI that no longer navigates are
+ * kept until the UI is closed.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ */
+public class RouteTargetPool implements Serializable {
+
+    private final Map<Class<?>, ArrayDeque<PooledInstance>> pooled = new HashMap<>();
+
+    private long reused;
+    private long created;
+    private long evicted;
+
+    // The type and instance handed out by the navigation in progress, counted
+    // only once the navigation is committed
+    private Class<?> pendingType;
+    private HasElement pendingInstance;
+
+    private record PooledInstance(HasElement instance,
+            long releasedAt) implements Serializable {
+    }
+
+    /**
+     * Gets the pool of the given UI if any instances have been pooled in it.
+     *
+     * @param ui
+     *            the UI to get the pool for
+     * @return the pool of the UI, or {@code null} if there is none
+     */
+    public static RouteTargetPool get(UI ui) {
+        return ComponentUtil.getData(ui, RouteTargetPool.class);
+    }
+
+    private static RouteTargetPool getOrCreate(UI ui) {
+        RouteTargetPool pool = get(ui);
+        if (pool == null) {
+            pool = new RouteTargetPool();
+            ComponentUtil.setData(ui, RouteTargetPool.class, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * Checks whether instances of the given route target type may be reused.
+     *
+     * @param routeTargetType
+     *            the route target type to check
+     * @return {@code true} if the type is annotated with
+     *         {@link ReuseRouteTarget} and isn't preserved on refresh,
+     *         {@code false} otherwise
+     */
+    static boolean isReusable(Class<?> routeTargetType) {
+        return routeTargetType.isAnnotationPresent(ReuseRouteTarget.class)
+                && !routeTargetType
+                        .isAnnotationPresent(PreserveOnRefresh.class);
+    }
+
+    /**
+     * Takes a kept instance of the given type from the pool of the UI. The
+     * instance is reset if it implements {@link ReusableRouteTarget}. The
+     * instance is only counted as reused once the navigation is committed,
+     * see {@link #navigationCommitted(UI, HasElement)}.
+     *
+     * @param ui
+     *            the UI to get the instance for
+     * @param routeTargetType
+     *            the type of the navigation target
+     * @param <T>
+     *            the navigation target type
+     * @return a kept instance, or {@code null} if there is none available and
+     *         a new instance needs to be created
+     */
+    static <T extends HasElement> T take(UI ui, Class<T> routeTargetType) {
+        RouteTargetPool pool = getOrCreate(ui);
+        pool.evictIdle();
+        ArrayDeque<PooledInstance> instances = pool.pooled
+                .get(routeTargetType);
+        pool.pendingType = routeTargetType;
+        if (instances == null || instances.isEmpty()) {
+            pool.pendingInstance = null;
+            return null;
+        }
+        HasElement instance = instances.pollLast().instance();
+        pool.pendingInstance = instance;
+        if (instance instanceof ReusableRouteTarget reusable) {
+            reusable.reset();
+        }
+        return routeTargetType.cast(instance);
+    }
+
+    /**
+     * Keeps the given navigation target for later reuse if it's annotated
+     * with {@link ReuseRouteTarget} and not attached anywhere.
+     *
+     * @param ui
+     *            the UI the navigation target was shown in
+     * @param routeTarget
+     *            the navigation target that is no longer shown
+     */
+    static void release(UI ui, HasElement routeTarget) {
+        Class<?> type = Instantiator.get(ui).getApplicationClass(routeTarget);
+        if (!isReusable(type) || routeTarget.getElement().getParent() != null) {
+            return;
+        }
+        RouteTargetPool pool = getOrCreate(ui);
+        pool.evictIdle();
+        ArrayDeque<PooledInstance> instances = pool.pooled
+                .computeIfAbsent(type, key -> new ArrayDeque<>());
+        instances.addLast(new PooledInstance(routeTarget,
+                System.currentTimeMillis()));
+        int maxInstances = Math.max(0,
+                type.getAnnotation(ReuseRouteTarget.class).maxInstances());
+        while (instances.size() > maxInstances) {
+            instances.pollFirst();
+            pool.evicted++;
+        }
+    }
+
+    /**
+     * Counts a navigation to a reusable target as reused or created once the
+     * navigation target has been shown. Navigations that are postponed or
+     * rerouted after an instance was taken are not counted.
+     *
+     * @param ui
+     *            the UI that navigated
+     * @param routeTarget
+     *            the navigation target that is now shown
+     */
+    static void navigationCommitted(UI ui, HasElement routeTarget) {
+        RouteTargetPool pool = get(ui);
+        if (pool == null || pool.pendingType == null) {
+            return;
+        }
+        if (routeTarget == pool.pendingInstance) {
+            pool.reused++;
+        } else if (Instantiator.get(ui).getApplicationClass(
+                routeTarget) == pool.pendingType) {
+            pool.created++;
+        }
+        pool.pendingType = null;
+        pool.pendingInstance = null;
+    }
+
+    private void evictIdle() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<Class<?>, ArrayDeque<PooledInstance>>> types = pooled
+                .entrySet().iterator();
+        while (types.hasNext()) {
+            Map.Entry<Class<?>, ArrayDeque<PooledInstance>> entry = types
+                    .next();
+            long maxIdleMillis = entry.getKey()
+                    .getAnnotation(ReuseRouteTarget.class).maxIdleSeconds()
+                    * 1000L;
+            ArrayDeque<PooledInstance> instances = entry.getValue();
+            Iterator<PooledInstance> iterator = instances.iterator();
+            while (iterator.hasNext()) {
+                if (now - iterator.next().releasedAt() > maxIdleMillis) {
+                    iterator.remove();
+                    evicted++;
+                }
+            }
+            if (instances.isEmpty()) {
+                types.remove();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of navigations that reused a kept instance.
+     *
+     * @return the number of reused instances
+     */
+    public long getReusedCount() {
+        return reused;
+    }
+
+    /**
+     * Gets the number of navigations to reusable targets that had to create a
+     * new instance because no kept instance was available.
+     *
+     * @return the number of created instances
+     */
+    public long getCreatedCount() {
+        return created;
+    }
+
+    /**
+     * Gets the number of kept instances that were released without being
+     * reused, because the pool was full or the instance was idle for too
+     * long.
+     *
+     * @return the number of evicted instances
+     */
+    public long getEvictedCount() {
+        return evicted;
+    }
+
+    /**
+     * Gets the share of navigations to reusable targets that reused a kept
+     * instance.
+     *
+     * @return the reuse rate between {@code 0} and {@code 1}
+     */
+    public double getReuseRate() {
+        long total = reused + created;
+        return total == 0 ? 0 : (double) reused / total;
+    }
+
+    /**
+     * Gets the number of instances currently kept for reuse.
+     *
+     * @return the number of kept instances
+     */
+    public int getPooledCount() {
+        return pooled.values().stream().mapToInt(ArrayDeque::size).sum();
+    }
+
+    /**
+     * Gets the number of state nodes held by the instances currently kept for
+     * reuse, as a measure of the memory they retain.
+     *
+     * @return the number of state nodes in kept instances
+     */
+    public int getPooledNodeCount() {
+        int[] count = new int[1];
+        pooled.values().forEach(instances -> instances
+                .forEach(pooledInstance -> pooledInstance.instance()
+                        .getElement().getNode()
+                        .visitNodeTree(node -> count[0]++)));
+        return count[0];
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2000-2024 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import java.io.Serializable;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.vaadin.flow.server.communication.ApplicationStreamResourceHandler;
+
+/**
+ * Application scoped registry for {@link StreamResource} instances that are
+ * served without a {@link VaadinSession}.
+ * <p>
+ * Resources registered here are shared by all users of the application. A
+ * request for such a resource is handled before the session is looked up, so
+ * it does not create a session, does not lock it and does not block other
+ * requests of the same user. The resource writer is called with a
+ * {@code null} session. Only register resources which do not contain any user
+ * specific data and which are safe to be served concurrently.
+ * <p>
+ * The resource URI contains a signature of the resource id and name which is
+ * calculated with a secret of this registry. URIs can thus not be forged, and
+ * a request with an invalid signature is rejected without looking up the
+ * resource.
+ * <p>
+ * The secret is read from the
+ * {@link InitParameters#APPLICATION_STREAM_RESOURCE_SECRET} context parameter
+ * or the corresponding {@code vaadin.} prefixed system property. If neither is
+ * set, a random secret is generated when the registry is created, and the
+ * signed URIs are then only accepted by the same node until it is restarted.
+ * In a cluster or behind a CDN which may outlive the node, configure the same
+ * secret for all nodes. Note that the URI also contains the resource id, so a
+ * node accepts the URI only if the resource has been registered there with
+ * the same id.
+ * <p>
+ * If the resource has a positive {@link StreamResource#getCacheTime() cache
+ * time}, the response is marked as publicly cacheable so that a reverse proxy
+ * or a CDN can serve it.
+ *
+ * @author Vaadin Ltd
+ */
+public class ApplicationStreamResourceRegistry implements Serializable {
+
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+
+    private final Map<String, StreamResource> resources = new ConcurrentHashMap<>();
+
+    private final byte[] secret;
+
+    private static final class Registration implements StreamRegistration {
+
+        private final ApplicationStreamResourceRegistry registry;
+
+        private final StreamResource resource;
+
+        private final URI uri;
+
+        private Registration(ApplicationStreamResourceRegistry registry,
+                StreamResource resource) {
+            this.registry = registry;
+            this.resource = resource;
+            uri = registry.getURI(resource);
+        }
+
+        @Override
+        public URI getResourceUri() {
+            return uri;
+        }
+
+        @Override
+        public void unregister() {
+            registry.unregisterResource(resource);
+        }
+
+        @Override
+        public AbstractStreamResource getResource() {
+            return registry.resources.get(resource.getId()) == resource
+                    ? resource
+                    : null;
+        }
+    }
+
+    /**
+     * Creates a new registry with a random signing secret.
+     */
+    protected ApplicationStreamResourceRegistry() {
+        secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+    }
+
+    /**
+     * Creates a new registry which signs the resource URIs with the given
+     * secret.
+     *
+     * @param secret
+     *            the signing secret, not {@code null} or empty
+     */
+    protected ApplicationStreamResourceRegistry(String secret) {
+        if (secret == null || secret.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "The signing secret may not be null or empty");
+        }
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the registry for the given Vaadin context. If the context has no
+     * registry, a new instance is created and assigned to the context. The
+     * new instance uses the secret configured with
+     * {@link InitParameters#APPLICATION_STREAM_RESOURCE_SECRET}, if any.
+     *
+     * @param context
+     *            the vaadin context for which to get the registry, not
+     *            <code>null</code>
+     * @return the registry instance for the given context, not
+     *         <code>null</code>
+     */
+    public static ApplicationStreamResourceRegistry getInstance(
+            VaadinContext context) {
+        assert context != null;
+        return context.getAttribute(ApplicationStreamResourceRegistry.class,
+                () -> {
+                    String secret = getConfiguredSecret(context);
+                    return secret == null
+                            ? new ApplicationStreamResourceRegistry()
+                            : new ApplicationStreamResourceRegistry(secret);
+                });
+    }
+
+    private static String getConfiguredSecret(VaadinContext context) {
+        String name = InitParameters.APPLICATION_STREAM_RESOURCE_SECRET;
+        String secret = context.getContextParameter(name);
+        if (secret == null || secret.isEmpty()) {
+            secret = System.getProperty(Constants.VAADIN_PREFIX + name);
+        }
+        return secret == null || secret.isEmpty() ? null : secret;
+    }
+
+    /**
+     * Registers a stream resource for the whole application and returns a
+     * registration handler.
+     * <p>
+     * The resource stays registered until it is explicitly unregistered using
+     * the returned registration or
+     * {@link #unregisterResource(StreamResource)}.
+     *
+     * @param resource
+     *            stream resource to register, not <code>null</code>
+     * @return registration handler
+     */
+    public StreamRegistration registerResource(StreamResource resource) {
+        resources.put(resource.getId(), resource);
+        return new Registration(this, resource);
+    }
+
+    /**
+     * Unregisters the given stream resource.
+     *
+     * @param resource
+     *            stream resource to unregister
+     */
+    public void unregisterResource(StreamResource resource) {
+        resources.remove(resource.getId(), resource);
+    }
+
+    /**
+     * Gets the signed URI for the given {@code resource}.
+     * <p>
+     * The URI is handled only if the {@code resource} is registered in this
+     * registry.
+     *
+     * @param resource
+     *            stream resource
+     * @return signed resource URI
+     */
+    public URI getURI(StreamResource resource) {
+        String id = resource.getId();
+        String name = resource.getName();
+        try {
+            return new URI(ApplicationStreamResourceHandler.generateURI(name,
+                    id, sign(id, name)));
+        } catch (URISyntaxException e) {
+            // this may not happen if implementation is correct
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Gets a registered resource for the given id, signature and name. An
+     * empty optional is returned if the signature does not match the id and
+     * name.
+     *
+     * @param id
+     *            the resource id
+     * @param signature
+     *            the signature from the resource URI
+     * @param name
+     *            the resource name
+     * @return an optional resource, or an empty optional if no resource is
+     *         registered for the given values
+     */
+    public Optional<StreamResource> getResource(String id, String signature,
+            String name) {
+        if (!MessageDigest.isEqual(
+                sign(id, name).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII))) {
+            return Optional.empty();
+        }
+        StreamResource resource = resources.get(id);
+        if (resource == null || !resource.getName().equals(name)) {
+            return Optional.empty();
+        }
+        return Optional.of(resource);
+    }
+
+    private String sign(String id, String name) {
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(new SecretKeySpec(secret, SIGNATURE_ALGORITHM));
+            mac.update(id.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) '/');
+            mac.update(name.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(
+                    "Unable to sign stream resource URI", e);
+        }
+    }
+}
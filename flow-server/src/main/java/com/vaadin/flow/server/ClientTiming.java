@@ -0,0 +1,122 @@
+/*
+ * Copyright 2000-2024 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+import com.vaadin.flow.component.UI;
+
+/**
+ * Timing information reported by the browser about handling a single response
+ * from the server.
+ * <p>
+ * Client timings are only requested from the browser when at least one
+ * {@link ClientTimingListener} has been registered through
+ * {@link VaadinService#addClientTimingListener(ClientTimingListener)}. The
+ * timing of a response is sent along with the next request from the same UI,
+ * so it is delivered one round-trip later.
+ *
+ * @see ClientTimingListener
+ */
+public class ClientTiming implements Serializable {
+
+    private final UI ui;
+    private final int syncId;
+    private final int processingMillis;
+    private final int changesMillis;
+    private final int flushMillis;
+
+    /**
+     * Creates a new client timing.
+     *
+     * @param ui
+     *            the UI which handled the response, not {@code null}
+     * @param syncId
+     *            the server sync id of the response, or {@code -1} if sync id
+     *            checking is disabled
+     * @param processingMillis
+     *            the total time spent handling the response in milliseconds
+     * @param changesMillis
+     *            the time spent applying state tree changes in milliseconds
+     * @param flushMillis
+     *            the time spent flushing bindings to the DOM in milliseconds
+     */
+    public ClientTiming(UI ui, int syncId, int processingMillis,
+            int changesMillis, int flushMillis) {
+        this.ui = ui;
+        this.syncId = syncId;
+        this.processingMillis = processingMillis;
+        this.changesMillis = changesMillis;
+        this.flushMillis = flushMillis;
+    }
+
+    /**
+     * Gets the UI which handled the response.
+     *
+     * @return the UI, not {@code null}
+     */
+    public UI getUI() {
+        return ui;
+    }
+
+    /**
+     * Gets the server sync id of the response. It can be used to correlate the
+     * timing with the response written by the server.
+     *
+     * @return the sync id of the response, or {@code -1} if sync id checking
+     *         is disabled
+     */
+    public int getSyncId() {
+        return syncId;
+    }
+
+    /**
+     * Gets the total time the browser spent handling the response, including
+     * waiting for dependencies to load.
+     *
+     * @return the processing time
+     */
+    public Duration getProcessingTime() {
+        return Duration.ofMillis(processingMillis);
+    }
+
+    /**
+     * Gets the time the browser spent applying state tree changes.
+     *
+     * @return the time spent applying changes
+     */
+    public Duration getChangesTime() {
+        return Duration.ofMillis(changesMillis);
+    }
+
+    /**
+     * Gets the time the browser spent flushing bindings, i.e. updating the
+     * DOM based on the changed state tree.
+     *
+     * @return the time spent flushing bindings
+     */
+    public Duration getFlushTime() {
+        return Duration.ofMillis(flushMillis);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientTiming[ui=" + ui.getUIId() + ", syncId=" + syncId
+                + ", processing=" + processingMillis + "ms, changes="
+                + changesMillis + "ms, flush=" + flushMillis + "ms]";
+    }
+}
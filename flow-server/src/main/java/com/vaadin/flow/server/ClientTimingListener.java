@@ -0,0 +1,42 @@
+/*
+ * Copyright 2000-2024 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+
+/**
+ * Listener that receives the time browsers spent applying responses from the
+ * server, as reported in the following request.
+ * <p>
+ * While a listener is registered, responses ask the browser to measure how
+ * long processing the message, applying the state changes and flushing them
+ * to the DOM took. The timings are reported at the earliest with the next
+ * request from the same browser and are not delivered for a browser that
+ * never sends another request.
+ *
+ * @see VaadinService#addClientTimingListener(ClientTimingListener)
+ */
+@FunctionalInterface
+public interface ClientTimingListener extends Serializable {
+
+    /**
+     * Invoked when a browser has reported the timing of handling a response.
+     *
+     * @param timing
+     *            the reported client timing, not {@code null}
+     */
+    void clientTimingReported(ClientTiming timing);
+}
@@ -54,6 +54,7 @@ public class InitParameters implements Serializable {
     public static final String SERVLET_PARAMETER_HEARTBEAT_INTERVAL = "heartbeatInterval";
     public static final String SERVLET_PARAMETER_WEB_COMPONENT_DISCONNECT = "webComponentDisconnect";
     public static final String SERVLET_PARAMETER_CLOSE_IDLE_SESSIONS = "closeIdleSessions";
+    public static final String SERVLET_PARAMETER_REPLICATE_CHANGED_SESSIONS = "replicateChangedSessions";
     public static final String SERVLET_PARAMETER_PUSH_MODE = "pushMode";
     public static final String SERVLET_PARAMETER_SESSION_LOCK_CHECK_STRATEGY = "sessionLockCheckStrategy";
     public static final String SERVLET_PARAMETER_PUSH_SERVLET_MAPPING = "pushServletMapping";
@@ -285,4 +286,12 @@ public class InitParameters implements Serializable {
      */
     public static final String APPLICATION_IDENTIFIER = "applicationIdentifier";
 
+    /**
+     * Configuration name for the secret which is used to sign the URIs of
+     * application scoped stream resources. If not set, a random secret is
+     * generated on startup and the URIs are valid only on the node which
+     * issued them until it is restarted.
+     */
+    public static final String APPLICATION_STREAM_RESOURCE_SECRET = "applicationStreamResourceSecret";
+
 }
@@ -15,7 +15,9 @@
  */
 package com.vaadin.flow.server;
 
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -47,6 +49,13 @@ public class SessionRouteRegistry extends AbstractRouteRegistry {
 
     private final VaadinSession session;
 
+    /**
+     * This registry layered on top of the application registry, reused for as
+     * long as neither registry publishes a new configuration so that the two
+     * are not merged again on every navigation.
+     */
+    private transient volatile RouteOverlay overlay;
+
     /**
      * Package protected constructor for the session route registry.
      * <p>
@@ -86,19 +95,20 @@ public class SessionRouteRegistry extends AbstractRouteRegistry {
 
     @Override
     public List<RouteData> getRegisteredRoutes() {
-        List<RouteData> routes = new ArrayList<>(super.getRegisteredRoutes());
+        return new ArrayList<>(getOverlay().mergedRoutes());
+    }
 
-        List<RouteData> registeredRoutes = getParentRegistry()
+    private RouteOverlay getOverlay() {
+        List<RouteData> sessionRoutes = super.getRegisteredRoutes();
+        List<RouteData> parentRoutes = getParentRegistry()
                 .getRegisteredRoutes();
-        if (!registeredRoutes.isEmpty()) {
-            Set<String> collect = routes.stream().map(RouteData::getTemplate)
-                    .collect(Collectors.toSet());
-            registeredRoutes.stream()
-                    .filter(data -> !collect.contains(data.getTemplate()))
-                    .forEach(routes::add);
+        RouteOverlay current = overlay;
+        if (current == null || current.sessionRoutes() != sessionRoutes
+                || current.parentRoutes() != parentRoutes) {
+            current = RouteOverlay.create(sessionRoutes, parentRoutes);
+            overlay = current;
         }
-
-        return routes;
+        return current;
     }
 
     /**
@@ -187,29 +197,22 @@ public class SessionRouteRegistry extends AbstractRouteRegistry {
      * @return true if parent has exact match, but this registry doesn't
      */
     private boolean parentContainsExactMatch(String url) {
-        final List<RouteData> parentRoutes = getParentRegistry()
-                .getRegisteredRoutes();
-        final List<RouteData> registeredRoutes = getRegisteredRoutes();
-
-        // Remove any routes coming from parent registry
-        registeredRoutes.removeAll(parentRoutes);
+        final RouteOverlay current = getOverlay();
 
-        boolean noLocalMatch = registeredRoutes.stream()
-                .noneMatch(data -> data.getTemplate().equals(url));
-        boolean parentMatch = parentRoutes.stream()
-                .anyMatch(data -> data.getTemplate().equals(url));
+        boolean noLocalMatch = !current.localTemplates().contains(url);
+        boolean parentMatch = current.parentTemplates().contains(url);
 
         final boolean parentExactMatch = noLocalMatch && parentMatch;
         if (!parentExactMatch) {
             final List<String> segments = PathUtil.getSegmentsList(url);
-            final int parentHighestMatch = parentRoutes.stream()
-                    .mapToInt(data -> equalParts(segments,
-                            PathUtil.getSegmentsList(data.getTemplate())))
+            final int parentHighestMatch = current.parentSegments().stream()
+                    .mapToInt(templateSegments -> equalParts(segments,
+                            templateSegments))
                     .max().orElse(0);
 
-            final int registryHighestMatch = registeredRoutes.stream()
-                    .mapToInt(data -> equalParts(segments,
-                            PathUtil.getSegmentsList(data.getTemplate())))
+            final int registryHighestMatch = current.localSegments().stream()
+                    .mapToInt(templateSegments -> equalParts(segments,
+                            templateSegments))
                     .max().orElse(0);
             return parentHighestMatch > registryHighestMatch;
         }
@@ -293,4 +296,61 @@ public class SessionRouteRegistry extends AbstractRouteRegistry {
     private RouteRegistry getParentRegistry() {
         return session.getService().getRouteRegistry();
     }
+
+    /**
+     * Immutable view of the session routes layered on top of the application
+     * routes for a given pair of registered route lists.
+     *
+     * @param sessionRoutes
+     *            routes registered to the session registry
+     * @param parentRoutes
+     *            routes registered to the application registry
+     * @param mergedRoutes
+     *            session routes and the application routes not masked by them
+     * @param localTemplates
+     *            templates of session routes not also registered to the
+     *            application registry
+     * @param parentTemplates
+     *            templates of the application routes
+     * @param localSegments
+     *            segments of the local templates
+     * @param parentSegments
+     *            segments of the application route templates
+     */
+    private record RouteOverlay(List<RouteData> sessionRoutes,
+            List<RouteData> parentRoutes, List<RouteData> mergedRoutes,
+            Set<String> localTemplates, Set<String> parentTemplates,
+            List<List<String>> localSegments,
+            List<List<String>> parentSegments) implements Serializable {
+
+        private static RouteOverlay create(List<RouteData> sessionRoutes,
+                List<RouteData> parentRoutes) {
+            List<RouteData> merged = new ArrayList<>(sessionRoutes);
+            if (!parentRoutes.isEmpty()) {
+                Set<String> sessionTemplates = sessionRoutes.stream()
+                        .map(RouteData::getTemplate)
+                        .collect(Collectors.toSet());
+                parentRoutes.stream()
+                        .filter(data -> !sessionTemplates
+                                .contains(data.getTemplate()))
+                        .forEach(merged::add);
+            }
+
+            // Session routes that are not just copies of application routes
+            List<String> local = sessionRoutes.stream()
+                    .filter(data -> !parentRoutes.contains(data))
+                    .map(RouteData::getTemplate).toList();
+            List<String> parent = parentRoutes.stream()
+                    .map(RouteData::getTemplate).toList();
+
+            return new RouteOverlay(sessionRoutes, parentRoutes,
+                    Collections.unmodifiableList(merged), Set.copyOf(local),
+                    Set.copyOf(parent), toSegments(local),
+                    toSegments(parent));
+        }
+
+        private static List<List<String>> toSegments(List<String> templates) {
+            return templates.stream().map(PathUtil::getSegmentsList).toList();
+        }
+    }
 }
@@ -94,6 +94,10 @@ public class StreamResource extends AbstractStreamResource {
         }
 
         private InputStream createInputStream(VaadinSession session) {
+            if (session == null) {
+                // Application scoped resource, there is no session to lock
+                return factory.createInputStream();
+            }
             session.lock();
             try {
                 return factory.createInputStream();
@@ -113,7 +117,7 @@ public class StreamResource extends AbstractStreamResource {
 
         private int read(VaadinSession session, InputStream source,
                 byte[] buffer) throws IOException {
-            if (factory.requiresLock()) {
+            if (factory.requiresLock() && session != null) {
                 session.lock();
                 try {
                     return source.read(buffer);
@@ -42,7 +42,8 @@ public interface StreamResourceWriter extends Serializable {
      * @param stream
      *            data output stream
      * @param session
-     *            vaadin session
+     *            vaadin session, or {@code null} if the resource is served
+     *            from {@link ApplicationStreamResourceRegistry}
      * @throws IOException
      *             if an IO error occurred
      */
@@ -62,10 +62,13 @@ import com.vaadin.flow.i18n.TranslationFileRequestHandler;
 import com.vaadin.flow.internal.CurrentInstance;
 import com.vaadin.flow.internal.LocaleUtil;
 import com.vaadin.flow.internal.UsageStatistics;
+import com.vaadin.flow.router.NavigationTrace;
+import com.vaadin.flow.router.NavigationTraceListener;
 import com.vaadin.flow.router.RouteData;
 import com.vaadin.flow.router.Router;
 import com.vaadin.flow.router.internal.AbstractNavigationStateRenderer;
 import com.vaadin.flow.server.HandlerHelper.RequestType;
+import com.vaadin.flow.server.communication.ApplicationStreamResourceHandler;
 import com.vaadin.flow.server.communication.AtmospherePushConnection;
 import com.vaadin.flow.server.communication.HeartbeatHandler;
 import com.vaadin.flow.server.communication.IndexHtmlRequestListener;
@@ -147,6 +150,8 @@ public abstract class VaadinService implements Serializable {
 
     private final List<SessionInitListener> sessionInitListeners = new CopyOnWriteArrayList<>();
     private final List<UIInitListener> uiInitListeners = new CopyOnWriteArrayList<>();
+    private final List<NavigationTraceListener> navigationTraceListeners = new CopyOnWriteArrayList<>();
+    private final List<ClientTimingListener> clientTimingListeners = new CopyOnWriteArrayList<>();
     private final List<SessionDestroyListener> sessionDestroyListeners = new CopyOnWriteArrayList<>();
 
     private SystemMessagesProvider systemMessagesProvider = DefaultSystemMessagesProvider
@@ -185,6 +190,8 @@ public abstract class VaadinService implements Serializable {
 
     private Iterable<VaadinRequestInterceptor> vaadinRequestInterceptors;
 
+    private final ApplicationStreamResourceHandler applicationStreamResourceHandler = new ApplicationStreamResourceHandler();
+
     /**
      * Creates a new vaadin service based on a deployment configuration.
      *
@@ -586,6 +593,59 @@ public abstract class VaadinService implements Serializable {
         return Registration.addAndRemove(uiInitListeners, listener);
     }
 
+    /**
+     * Adds a listener that gets notified with timing information about each
+     * completed navigation in UIs served by this service.
+     * <p>
+     * Navigations are only traced while at least one listener is registered.
+     *
+     * @param listener
+     *            the navigation trace listener
+     * @return a handle that can be used for removing the listener
+     * @see NavigationTraceListener
+     */
+    public Registration addNavigationTraceListener(
+            NavigationTraceListener listener) {
+        return Registration.addAndRemove(navigationTraceListeners, listener);
+    }
+
+    /**
+     * Checks whether there are any navigation trace listeners registered.
+     *
+     * @return {@code true} if navigations should be traced, {@code false}
+     *         otherwise
+     */
+    public boolean hasNavigationTraceListeners() {
+        return !navigationTraceListeners.isEmpty();
+    }
+
+    /**
+     * Adds a listener that gets notified with the time browsers spent handling
+     * responses for UIs served by this service.
+     * <p>
+     * Browsers are only asked to report their timings while at least one
+     * listener is registered.
+     *
+     * @param listener
+     *            the client timing listener
+     * @return a handle that can be used for removing the listener
+     * @see ClientTimingListener
+     */
+    public Registration addClientTimingListener(
+            ClientTimingListener listener) {
+        return Registration.addAndRemove(clientTimingListeners, listener);
+    }
+
+    /**
+     * Checks whether there are any client timing listeners registered.
+     *
+     * @return {@code true} if browsers should report their timings,
+     *         {@code false} otherwise
+     */
+    public boolean hasClientTimingListeners() {
+        return !clientTimingListeners.isEmpty();
+    }
+
     /**
      * Adds a listener that gets notified when a Vaadin service session that has
      * been initialized for this service is destroyed.
@@ -836,6 +896,13 @@ public abstract class VaadinService implements Serializable {
 
     private VaadinSession findOrCreateVaadinSession(VaadinRequest request)
             throws SessionExpiredException {
+        if (HandlerHelper.isRequestType(request, RequestType.HEARTBEAT)) {
+            VaadinSession session = findLoadedSessionWithoutLock(request);
+            if (session != null) {
+                return session;
+            }
+        }
+
         boolean requestCanCreateSession = requestCanCreateSession(request);
         WrappedSession wrappedSession = getWrappedSession(request,
                 requestCanCreateSession);
@@ -856,6 +923,32 @@ public abstract class VaadinService implements Serializable {
 
     }
 
+    /**
+     * Looks up the Vaadin session without the session lock, so that a
+     * heartbeat does not wait for a long running request of the same session.
+     * Only a session which has already been loaded by an earlier request is
+     * returned. Otherwise {@code null} is returned and the session is looked up
+     * with the lock.
+     */
+    private VaadinSession findLoadedSessionWithoutLock(VaadinRequest request) {
+        WrappedSession wrappedSession = request.getWrappedSession(false);
+        if (wrappedSession == null) {
+            return null;
+        }
+        VaadinSession session;
+        try {
+            session = readFromHttpSession(wrappedSession);
+        } catch (IllegalStateException e) {
+            // Invalidated, the locked lookup reports the expired session
+            return null;
+        }
+        if (session == null || session.getService() != this
+                || session.getState() != VaadinSessionState.OPEN) {
+            return null;
+        }
+        return session;
+    }
+
     /**
      * Finds or creates a Vaadin session. Assumes necessary synchronization has
      * been done by the caller to ensure this is not called simultaneously by
@@ -1498,14 +1591,17 @@ public abstract class VaadinService implements Serializable {
         vaadinRequestInterceptors
                 .forEach(requestInterceptor -> requestInterceptor
                         .requestEnd(request, response, session));
-        if (session != null) {
+        if (session != null && lockForRequestEnd(request, session)) {
             assert VaadinSession.getCurrent() == session;
-            session.lock();
             try {
                 cleanupSession(session);
                 final long duration = (System.nanoTime() - (Long) request
                         .getAttribute(REQUEST_START_TIME_ATTRIBUTE)) / 1000000;
                 session.setLastRequestDuration(duration);
+                if (getDeploymentConfiguration()
+                        .isReplicateChangedSessions()) {
+                    storeChangedSession(session);
+                }
             } finally {
                 session.unlock();
             }
@@ -1513,6 +1609,49 @@ public abstract class VaadinService implements Serializable {
         CurrentInstance.clearAll();
     }
 
+    /**
+     * Locks the session for the cleanup at the end of a request. A heartbeat
+     * that was handled without locking only tries to lock the session and
+     * skips the cleanup if another request holds the lock, since that request
+     * does the cleanup when it ends.
+     */
+    private static boolean lockForRequestEnd(VaadinRequest request,
+            VaadinSession session) {
+        if (request.getAttribute(
+                HeartbeatHandler.HANDLED_WITHOUT_LOCK_ATTRIBUTE) == null) {
+            session.lock();
+            return true;
+        }
+        return session.getLockInstance().tryLock();
+    }
+
+    /**
+     * Writes the session to the underlying HTTP session again if it has
+     * changed during the request, so that containers replicating session
+     * attributes when they are set can replicate it.
+     *
+     * @param session
+     *            the session to store, not <code>null</code>
+     */
+    private void storeChangedSession(VaadinSession session) {
+        WrappedSession wrappedSession = session.getSession();
+        if (wrappedSession == null
+                || session.getState() != VaadinSessionState.OPEN
+                || !session.hasChangesSinceCheckpoint()) {
+            return;
+        }
+        // Setting the same instance again unbinds it from the HTTP session,
+        // which must not close it
+        session.setAttribute(PRESERVE_UNBOUND_SESSION_ATTRIBUTE, Boolean.TRUE);
+        try {
+            writeToHttpSession(wrappedSession, session);
+        } finally {
+            session.setAttribute(PRESERVE_UNBOUND_SESSION_ATTRIBUTE, null);
+        }
+        // Only cleared once written, a failed write is retried next time
+        session.clearChangesSinceCheckpoint();
+    }
+
     /**
      * Returns the request handlers that are registered with this service. The
      * iteration order of the returned collection is the same as the order in
@@ -1574,6 +1713,12 @@ public abstract class VaadinService implements Serializable {
 
         VaadinSession vaadinSession = null;
         try {
+            // Application scoped resources are served without a session
+            if (applicationStreamResourceHandler.handleRequest(request,
+                    response)) {
+                return;
+            }
+
             // Find out the service session this request is related to
             vaadinSession = findVaadinSession(request);
             if (vaadinSession == null) {
@@ -2287,6 +2432,29 @@ public abstract class VaadinService implements Serializable {
         uiInitListeners.forEach(listener -> listener.uiInit(initEvent));
     }
 
+    /**
+     * Fire a navigation trace to all registered
+     * {@link NavigationTraceListener}s.
+     *
+     * @param trace
+     *            the trace of a completed navigation
+     */
+    public void fireNavigationTraceListeners(NavigationTrace trace) {
+        navigationTraceListeners
+                .forEach(listener -> listener.navigationTraced(trace));
+    }
+
+    /**
+     * Fire a client timing to all registered {@link ClientTimingListener}s.
+     *
+     * @param timing
+     *            the timing reported by the client
+     */
+    public void fireClientTimingListeners(ClientTiming timing) {
+        clientTimingListeners
+                .forEach(listener -> listener.clientTimingReported(timing));
+    }
+
     /**
      * Returns a URL to the static resource at the given URI or null if no file
      * found.
@@ -31,6 +31,7 @@ import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.locks.Lock;
@@ -96,7 +97,7 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
     private LinkedList<RequestHandler> requestHandlers = new LinkedList<>();
 
     private int nextUIId = 0;
-    private transient Map<Integer, UI> uIs = new HashMap<>();
+    private transient Map<Integer, UI> uIs = new ConcurrentHashMap<>();
 
     protected WebBrowser browser = new WebBrowser();
 
@@ -108,6 +109,8 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
 
     private VaadinSessionState state = VaadinSessionState.OPEN;
 
+    private transient boolean changedSinceCheckpoint;
+
     private transient WrappedSession session;
 
     private transient VaadinService service;
@@ -554,6 +557,22 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
         return uIs.get(uiId);
     }
 
+    /**
+     * Returns a UI with the given id without requiring the session to be
+     * locked. The returned UI must not be accessed without locking the session,
+     * except for state that is explicitly safe for concurrent use, such as
+     * {@link com.vaadin.flow.component.internal.UIInternals#setLastHeartbeatTimestamp(long)}.
+     * <p>
+     * This is meant for framework internal use.
+     *
+     * @param uiId
+     *            The UI id
+     * @return The UI with the given id or null if not found
+     */
+    public UI getUIByIdWithoutLock(int uiId) {
+        return uIs.get(uiId);
+    }
+
     /**
      * Checks if the current thread has exclusive access to this
      * <code>VaadinSession</code>.
@@ -633,6 +652,7 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
         assert UI.getCurrent().getUIId() == ui.getUIId() : "UIs don't match";
         ui.getInternals().setSession(null);
         uIs.remove(ui.getUIId());
+        changedSinceCheckpoint = true;
     }
 
     /**
@@ -772,6 +792,7 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
     public void setAttribute(String name, Object value) {
         checkHasLock();
         attributes.setAttribute(name, value);
+        changedSinceCheckpoint = true;
     }
 
     /**
@@ -798,6 +819,7 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
     public <T> void setAttribute(Class<T> type, T value) {
         checkHasLock();
         attributes.setAttribute(type, value);
+        changedSinceCheckpoint = true;
     }
 
     /**
@@ -869,6 +891,42 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
         }
 
         uIs.put(ui.getUIId(), ui);
+        changedSinceCheckpoint = true;
+    }
+
+    /**
+     * Checks if this session has changed since the last time
+     * {@link #clearChangesSinceCheckpoint()} was invoked. The session is
+     * considered changed if UIs have been added or removed, if session
+     * attributes have been set or if the state tree of any UI has changed.
+     * <p>
+     * This can be used to only replicate or persist the session after requests
+     * that actually changed it. Changes to application state that is not
+     * reflected in the session attributes or in the state tree of any UI are
+     * not detected.
+     *
+     * @return <code>true</code> if the session has changed since the last
+     *         checkpoint, <code>false</code> otherwise
+     * @see DeploymentConfiguration#isReplicateChangedSessions()
+     */
+    public boolean hasChangesSinceCheckpoint() {
+        checkHasLock();
+        return changedSinceCheckpoint || uIs.values().stream()
+                .anyMatch(ui -> ui.getInternals().getStateTree()
+                        .hasChangesSinceCheckpoint());
+    }
+
+    /**
+     * Marks the current state of this session and all its UIs as a
+     * checkpoint, e.g. after the session has been replicated.
+     *
+     * @see #hasChangesSinceCheckpoint()
+     */
+    public void clearChangesSinceCheckpoint() {
+        checkHasLock();
+        changedSinceCheckpoint = false;
+        uIs.values().forEach(ui -> ui.getInternals().getStateTree()
+                .clearChangesSinceCheckpoint());
     }
 
     public VaadinService getService() {
@@ -1068,7 +1126,8 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
         Map<Class<?>, CurrentInstance> old = CurrentInstance.setCurrent(this);
         try {
             stream.defaultReadObject();
-            uIs = (Map<Integer, UI>) stream.readObject();
+            uIs = new ConcurrentHashMap<>(
+                    (Map<Integer, UI>) stream.readObject());
             resourceRegistry = (StreamResourceRegistry) stream.readObject();
             pendingAccessQueue = new ConcurrentLinkedQueue<>();
         } finally {
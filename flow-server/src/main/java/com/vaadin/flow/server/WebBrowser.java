@@ -19,6 +19,7 @@ package com.vaadin.flow.server;
 import java.io.Serializable;
 import java.util.Locale;
 
+import com.vaadin.flow.internal.LruCache;
 import com.vaadin.flow.shared.BrowserDetails;
 
 /**
@@ -34,6 +35,15 @@ import com.vaadin.flow.shared.BrowserDetails;
  */
 public class WebBrowser implements Serializable {
 
+    private static final int BROWSER_DETAILS_CACHE_SIZE = 100;
+
+    /**
+     * Cache of recently parsed user agents. Browser details are immutable, so
+     * the same instance can be shared by all sessions using the same browser.
+     */
+    private static final LruCache<String, BrowserDetails> browserDetailsCache = new LruCache<>(
+            BROWSER_DETAILS_CACHE_SIZE);
+
     private String browserApplication = null;
     private Locale locale = null;
     private String address = null;
@@ -65,8 +75,17 @@ public class WebBrowser implements Serializable {
 
         if (agent != null) {
             browserApplication = agent;
-            browserDetails = new BrowserDetails(agent);
+            browserDetails = getBrowserDetails(agent);
+        }
+    }
+
+    private static BrowserDetails getBrowserDetails(String agent) {
+        BrowserDetails details = browserDetailsCache.get(agent);
+        if (details == null) {
+            details = new BrowserDetails(agent);
+            browserDetailsCache.put(agent, details);
         }
+        return details;
     }
 
     /**
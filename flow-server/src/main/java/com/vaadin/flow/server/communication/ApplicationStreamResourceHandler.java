@@ -0,0 +1,109 @@
+/*
+ * Copyright 2000-2024 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Optional;
+
+import com.vaadin.flow.internal.UrlUtil;
+import com.vaadin.flow.server.ApplicationStreamResourceRegistry;
+import com.vaadin.flow.server.HttpStatusCode;
+import com.vaadin.flow.server.StreamResource;
+import com.vaadin.flow.server.VaadinRequest;
+import com.vaadin.flow.server.VaadinResponse;
+
+/**
+ * Handles {@link StreamResource} instances registered in
+ * {@link ApplicationStreamResourceRegistry}.
+ * <p>
+ * The request is handled without a session: the resource is looked up from
+ * the application scoped registry and written to the response without any
+ * locking.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ */
+public class ApplicationStreamResourceHandler implements Serializable {
+
+    private static final char PATH_SEPARATOR = '/';
+
+    /**
+     * Application scoped resource URI prefix.
+     */
+    public static final String APP_RES_PREFIX = "VAADIN/dynamic/application/";
+
+    /**
+     * Handles the request if it targets a resource in the application scoped
+     * registry.
+     *
+     * @param request
+     *            request to handle
+     * @param response
+     *            response object to which a response can be written
+     * @return {@code true} if the request was handled, {@code false} if it
+     *         does not target an application scoped resource
+     * @throws IOException
+     *             if an IO error occurred
+     */
+    public boolean handleRequest(VaadinRequest request,
+            VaadinResponse response) throws IOException {
+        String pathInfo = request.getPathInfo();
+        if (pathInfo == null || !pathInfo.startsWith(APP_RES_PREFIX, 1)) {
+            return false;
+        }
+
+        // [0] id, [1] signature, [2] name
+        String[] parts = pathInfo.substring(APP_RES_PREFIX.length() + 1)
+                .split("/", 3);
+        Optional<StreamResource> resource = Optional.empty();
+        if (parts.length == 3) {
+            resource = ApplicationStreamResourceRegistry
+                    .getInstance(request.getService().getContext())
+                    .getResource(parts[0], parts[1], parts[2]);
+        }
+        if (resource.isEmpty()) {
+            response.sendError(HttpStatusCode.NOT_FOUND.getCode(),
+                    "Resource is not found for path=" + pathInfo);
+            return true;
+        }
+        // Allow shared caches to store the response as well
+        StreamResourceHandler.writeResource(null, request, response,
+                resource.get(), true);
+        return true;
+    }
+
+    /**
+     * Generates URI string for an application scoped resource.
+     *
+     * @param name
+     *            file name to use in path
+     * @param id
+     *            unique resource id
+     * @param signature
+     *            signature of the id and name
+     * @return generated URI string
+     */
+    public static String generateURI(String name, String id,
+            String signature) {
+        StringBuilder builder = new StringBuilder(APP_RES_PREFIX);
+        builder.append(id).append(PATH_SEPARATOR);
+        builder.append(signature).append(PATH_SEPARATOR);
+        builder.append(UrlUtil.encodeURIComponent(name));
+        return builder.toString();
+    }
+}
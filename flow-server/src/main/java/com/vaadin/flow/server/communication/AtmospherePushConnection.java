@@ -206,7 +206,10 @@ public class AtmospherePushConnection
                 try {
                     JsonObject response = new UidlWriter().createUidl(getUI(),
                             async);
-                    sendMessage("for(;;);[" + response.toJson() + "]");
+                    String message = "for(;;);[" + response.toJson() + "]";
+                    sendMessage(message);
+                    getUI().getInternals()
+                            .fireCompletedNavigationTraces(message);
                 } catch (Exception e) {
                     throw new RuntimeException("Push failed", e);
                 }
@@ -17,6 +17,9 @@
 package com.vaadin.flow.server.communication;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.internal.UIInternals;
@@ -46,11 +49,111 @@ import com.vaadin.flow.shared.ApplicationConstants;
 public class HeartbeatHandler extends SynchronizedRequestHandler
         implements SessionExpiredHandler {
 
+    /**
+     * Request attribute set when a heartbeat has been handled without locking
+     * the session.
+     */
+    public static final String HANDLED_WITHOUT_LOCK_ATTRIBUTE = HeartbeatHandler.class
+            .getName() + ".handledWithoutLock";
+
+    private final LongAdder handledWithoutLock = new LongAdder();
+    private final LongAdder contendedWithoutLock = new LongAdder();
+    private final LongAdder handledWithLock = new LongAdder();
+    private final LongAdder lockWaitNanos = new LongAdder();
+
     @Override
     protected boolean canHandleRequest(VaadinRequest request) {
         return HandlerHelper.isRequestType(request, RequestType.HEARTBEAT);
     }
 
+    /**
+     * Handles a heartbeat request without locking the session if the UI has no
+     * {@link UIInternals#hasHeartbeatListeners() heartbeat listeners}, since
+     * only the heartbeat timestamp needs to be updated then. Otherwise, the
+     * request is handled with the session locked.
+     * <p>
+     * The session cleanup at the end of a heartbeat handled without locking is
+     * skipped if another request holds the session lock.
+     * <p>
+     * The number of heartbeats handled with and without the lock, and the time
+     * spent waiting for the lock, are available from this handler to compare
+     * the contention on the session lock.
+     */
+    @Override
+    public boolean handleRequest(VaadinSession session, VaadinRequest request,
+            VaadinResponse response) throws IOException {
+        if (!canHandleRequest(request)) {
+            return false;
+        }
+
+        UI ui = findUIWithoutLock(session, request);
+        if (ui != null && !ui.getInternals().hasHeartbeatListeners()) {
+            ui.getInternals().setLastHeartbeatTimestampWithoutLock(
+                    System.currentTimeMillis());
+            request.setAttribute(HANDLED_WITHOUT_LOCK_ATTRIBUTE, Boolean.TRUE);
+            setNoCacheHeaders(response);
+            handledWithoutLock.increment();
+            Lock lock = session.getLockInstance();
+            if (lock instanceof ReentrantLock
+                    && ((ReentrantLock) lock).isLocked()) {
+                contendedWithoutLock.increment();
+            }
+            return true;
+        }
+
+        long start = System.nanoTime();
+        session.lock();
+        try {
+            lockWaitNanos.add(System.nanoTime() - start);
+            handledWithLock.increment();
+            return synchronizedHandleRequest(session, request, response);
+        } finally {
+            session.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of heartbeats handled without locking the session.
+     *
+     * @return the number of heartbeats handled without the session lock
+     */
+    public long getHandledWithoutLockCount() {
+        return handledWithoutLock.sum();
+    }
+
+    /**
+     * Gets the number of heartbeats handled without locking the session while
+     * the session lock was held by another request. Each of these would have
+     * waited for the other request to release the lock if it had been handled
+     * with the lock.
+     *
+     * @return the number of heartbeats that did not wait for the session lock
+     */
+    public long getContendedWithoutLockCount() {
+        return contendedWithoutLock.sum();
+    }
+
+    /**
+     * Gets the number of heartbeats handled with the session locked, because
+     * heartbeat listeners are registered or the UI was not found without the
+     * lock.
+     *
+     * @return the number of heartbeats handled with the session lock
+     */
+    public long getHandledWithLockCount() {
+        return handledWithLock.sum();
+    }
+
+    /**
+     * Gets the total time heartbeats handled with the session locked have
+     * waited for the lock.
+     *
+     * @return the total lock wait time in nanoseconds
+     */
+    public long getLockWaitNanos() {
+        return lockWaitNanos.sum();
+    }
+
     /**
      * Handles a heartbeat request for the given session. Reads the GET
      * parameter named {@link ApplicationConstants#UI_ID_PARAMETER} to identify
@@ -66,14 +169,7 @@ public class HeartbeatHandler extends SynchronizedRequestHandler
         if (ui != null) {
             ui.getInternals()
                     .setLastHeartbeatTimestamp(System.currentTimeMillis());
-            // Ensure that the browser does not cache heartbeat responses.
-            // iOS 6 Safari requires this
-            // (https://github.com/vaadin/framework/issues/3226)
-            response.setHeader("Cache-Control", "no-cache");
-            // If Content-Type is not set, browsers assume text/html and may
-            // complain about the empty response body
-            // (https://github.com/vaadin/framework/issues/4167)
-            response.setHeader("Content-Type", "text/plain");
+            setNoCacheHeaders(response);
         } else {
             response.sendError(HttpStatusCode.NOT_FOUND.getCode(),
                     "UI not found");
@@ -82,6 +178,31 @@ public class HeartbeatHandler extends SynchronizedRequestHandler
         return true;
     }
 
+    private static UI findUIWithoutLock(VaadinSession session,
+            VaadinRequest request) {
+        String uiIdString = request
+                .getParameter(ApplicationConstants.UI_ID_PARAMETER);
+        if (uiIdString == null) {
+            return null;
+        }
+        try {
+            return session.getUIByIdWithoutLock(Integer.parseInt(uiIdString));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static void setNoCacheHeaders(VaadinResponse response) {
+        // Ensure that the browser does not cache heartbeat responses.
+        // iOS 6 Safari requires this
+        // (https://github.com/vaadin/framework/issues/3226)
+        response.setHeader("Cache-Control", "no-cache");
+        // If Content-Type is not set, browsers assume text/html and may
+        // complain about the empty response body
+        // (https://github.com/vaadin/framework/issues/4167)
+        response.setHeader("Content-Type", "text/plain");
+    }
+
     /*
      * (non-Javadoc)
      *
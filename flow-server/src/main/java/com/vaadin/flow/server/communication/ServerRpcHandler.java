@@ -36,6 +36,7 @@ import com.vaadin.flow.component.UI;
 import com.vaadin.flow.internal.MessageDigestUtil;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.router.PreserveOnRefresh;
+import com.vaadin.flow.server.ClientTiming;
 import com.vaadin.flow.server.ErrorEvent;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinService;
@@ -51,6 +52,7 @@ import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
+import elemental.json.JsonType;
 import elemental.json.JsonValue;
 import elemental.json.impl.JsonUtil;
 
@@ -322,6 +324,7 @@ public class ServerRpcHandler implements Serializable {
             ui.getInternals().setLastProcessedClientToServerId(expectedId,
                     messageHash);
             handleInvocations(ui, rpcRequest.getRpcInvocationsData());
+            fireClientTiming(ui, rpcRequest, request.getService());
         }
 
         if (rpcRequest.isResynchronize()) {
@@ -365,6 +368,46 @@ public class ServerRpcHandler implements Serializable {
 
     }
 
+    private static void fireClientTiming(UI ui, RpcRequest rpcRequest,
+            VaadinService service) {
+        JsonObject json = rpcRequest.getRawJson();
+        if (!json.hasKey(ApplicationConstants.CLIENT_TIMING)
+                || !service.hasClientTimingListeners()) {
+            return;
+        }
+        JsonValue value = json.get(ApplicationConstants.CLIENT_TIMING);
+        if (value.getType() != JsonType.OBJECT
+                || !hasNumbers((JsonObject) value,
+                        ApplicationConstants.CLIENT_TIMING_SYNC_ID,
+                        ApplicationConstants.CLIENT_TIMING_PROCESSING,
+                        ApplicationConstants.CLIENT_TIMING_CHANGES,
+                        ApplicationConstants.CLIENT_TIMING_FLUSH)) {
+            getLogger().debug("Ignoring malformed client timing: {}",
+                    value.toJson());
+            return;
+        }
+        JsonObject timing = (JsonObject) value;
+        service.fireClientTimingListeners(new ClientTiming(ui,
+                (int) timing.getNumber(
+                        ApplicationConstants.CLIENT_TIMING_SYNC_ID),
+                (int) timing.getNumber(
+                        ApplicationConstants.CLIENT_TIMING_PROCESSING),
+                (int) timing
+                        .getNumber(ApplicationConstants.CLIENT_TIMING_CHANGES),
+                (int) timing
+                        .getNumber(ApplicationConstants.CLIENT_TIMING_FLUSH)));
+    }
+
+    private static boolean hasNumbers(JsonObject json, String... keys) {
+        for (String key : keys) {
+            if (!json.hasKey(key)
+                    || json.get(key).getType() != JsonType.NUMBER) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     // Kind of same as in AbstractNavigationStateRenderer, but gets
     // "routeLayoutTypes" & class from UI instance.
     private static boolean isPreserveOnRefreshTarget(UI ui) {
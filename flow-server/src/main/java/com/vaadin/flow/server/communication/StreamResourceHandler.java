@@ -58,15 +58,48 @@ public class StreamResourceHandler implements Serializable {
     public void handleRequest(VaadinSession session, VaadinRequest request,
             VaadinResponse response, StreamResource streamResource)
             throws IOException {
+        writeResource(session, request, response, streamResource, false);
+    }
 
+    /**
+     * Writes the stream resource to the response. The content type, the cache
+     * time and the custom headers of the resource are set before the resource
+     * writer is called. If the session is not {@code null}, it is locked while
+     * the resource is accessed, but not while the data is being written.
+     *
+     * @param session
+     *            session for the request, or {@code null} if the resource is
+     *            not session scoped
+     * @param request
+     *            request to handle
+     * @param response
+     *            response object to which a response can be written
+     * @param streamResource
+     *            stream resource that handles data writer
+     * @param publicCache
+     *            {@code true} to allow shared caches to store the response if
+     *            the resource has a positive cache time
+     * @throws IOException
+     *             if an IO error occurred
+     */
+    static void writeResource(VaadinSession session, VaadinRequest request,
+            VaadinResponse response, StreamResource streamResource,
+            boolean publicCache) throws IOException {
         StreamResourceWriter writer;
-        session.lock();
+        if (session != null) {
+            session.lock();
+        }
         try {
             ServletContext context = ((VaadinServletRequest) request)
                     .getServletContext();
             response.setContentType(streamResource.getContentTypeResolver()
                     .apply(streamResource, context));
-            response.setCacheTime(streamResource.getCacheTime());
+            long cacheTime = streamResource.getCacheTime();
+            response.setCacheTime(cacheTime);
+            if (publicCache && cacheTime > 0) {
+                response.setHeader("Cache-Control",
+                        "public, max-age=" + cacheTime / 1000);
+            }
             streamResource.getHeaders()
                     .forEach((name, value) -> response.setHeader(name, value));
             writer = streamResource.getWriter();
@@ -79,7 +112,9 @@ public class StreamResourceHandler implements Serializable {
             throw exception;
 
         } finally {
-            session.unlock();
+            if (session != null) {
+                session.unlock();
+            }
         }
         try (OutputStream outputStream = response.getOutputStream()) {
             try {
@@ -131,7 +131,9 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
             stringWriter.close();
         }
 
-        commitJsonResponse(response, stringWriter.toString());
+        String json = stringWriter.toString();
+        commitJsonResponse(response, json);
+        uI.getInternals().fireCompletedNavigationTraces(json);
         return true;
     }
 
@@ -44,6 +44,7 @@ import com.vaadin.flow.component.internal.DependencyList;
 import com.vaadin.flow.component.internal.PendingJavaScriptInvocation;
 import com.vaadin.flow.component.internal.UIInternals;
 import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.internal.ConstantPoolKey;
 import com.vaadin.flow.internal.JsonCodec;
 import com.vaadin.flow.internal.JsonUtils;
 import com.vaadin.flow.internal.StateNode;
@@ -66,6 +67,7 @@ import com.vaadin.flow.shared.ui.LoadMode;
 import elemental.json.Json;
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
+import elemental.json.JsonString;
 import elemental.json.JsonValue;
 
 /**
@@ -81,6 +83,11 @@ import elemental.json.JsonValue;
 public class UidlWriter implements Serializable {
     private static final String COULD_NOT_READ_URL_CONTENTS_ERROR_MESSAGE = "Could not read url %s contents";
 
+    /**
+     * Scripts shorter than this are sent as text even when repeated.
+     */
+    private static final int MIN_POOLED_SCRIPT_LENGTH = 100;
+
     /**
      * Provides context information for the resolve operations.
      */
@@ -172,6 +179,16 @@ public class UidlWriter implements Serializable {
         populateDependencies(response, uiInternals.getDependencyList(),
                 new ResolveContext(service, session.getBrowser()));
 
+        // Encoded before the constant pool is dumped since scripts may be
+        // registered as constants
+        List<PendingJavaScriptInvocation> executeJavaScriptList = uiInternals
+                .dumpPendingJavaScriptInvocations();
+        if (!executeJavaScriptList.isEmpty()) {
+            response.put(JsonConstants.UIDL_KEY_EXECUTE,
+                    encodeExecuteJavaScriptList(executeJavaScriptList,
+                            uiInternals));
+        }
+
         if (uiInternals.getConstantPool().hasNewConstants()) {
             response.put("constants",
                     uiInternals.getConstantPool().dumpConstants());
@@ -180,15 +197,12 @@ public class UidlWriter implements Serializable {
             response.put("changes", stateChanges);
         }
 
-        List<PendingJavaScriptInvocation> executeJavaScriptList = uiInternals
-                .dumpPendingJavaScriptInvocations();
-        if (!executeJavaScriptList.isEmpty()) {
-            response.put(JsonConstants.UIDL_KEY_EXECUTE,
-                    encodeExecuteJavaScriptList(executeJavaScriptList));
-        }
         if (service.getDeploymentConfiguration().isRequestTiming()) {
             response.put("timings", createPerformanceData(ui));
         }
+        if (service.hasClientTimingListeners()) {
+            response.put(ApplicationConstants.CLIENT_TIMING, true);
+        }
 
         // Get serverSyncId after all changes has been computed, as push may
         // have been invoked, thus incrementing the counter.
@@ -304,8 +318,16 @@ public class UidlWriter implements Serializable {
     // non-private for testing purposes
     static JsonArray encodeExecuteJavaScriptList(
             List<PendingJavaScriptInvocation> executeJavaScriptList) {
+        return encodeExecuteJavaScriptList(executeJavaScriptList, null);
+    }
+
+    // non-private for testing purposes
+    static JsonArray encodeExecuteJavaScriptList(
+            List<PendingJavaScriptInvocation> executeJavaScriptList,
+            UIInternals uiInternals) {
         return executeJavaScriptList.stream()
-                .map(UidlWriter::encodeExecuteJavaScript)
+                .map(invocation -> encodeExecuteJavaScript(invocation,
+                        uiInternals))
                 .collect(JsonUtils.asArray());
     }
 
@@ -326,7 +348,7 @@ public class UidlWriter implements Serializable {
     }
 
     private static JsonArray encodeExecuteJavaScript(
-            PendingJavaScriptInvocation invocation) {
+            PendingJavaScriptInvocation invocation, UIInternals uiInternals) {
         List<Object> parametersList = invocation.getInvocation()
                 .getParameters();
 
@@ -371,10 +393,36 @@ public class UidlWriter implements Serializable {
         // [argument1, argument2, ..., script]
         return Stream
                 .concat(parameters.map(JsonCodec::encodeWithTypeInfo),
-                        Stream.of(Json.create(expression)))
+                        Stream.of(encodeScript(expression, uiInternals)))
                 .collect(JsonUtils.asArray());
     }
 
+    /**
+     * Encodes a script to execute. A script which is sent again shortly after
+     * it was last sent is registered in the constant pool of the UI and
+     * referenced by its id from then on, so that the client receives the
+     * script text only once more and can reuse the function compiled from it.
+     * Only the ids of recently sent scripts are remembered, so scripts that
+     * are executed once are never stored in the constant pool. Short scripts
+     * are always sent as text since a reference would not be much shorter.
+     */
+    private static JsonValue encodeScript(String expression,
+            UIInternals uiInternals) {
+        JsonString script = Json.create(expression);
+        if (uiInternals == null
+                || expression.length() < MIN_POOLED_SCRIPT_LENGTH) {
+            return script;
+        }
+        ConstantPoolKey key = new ConstantPoolKey(script);
+        if (!uiInternals.markScriptSent(key.getId())) {
+            return script;
+        }
+        JsonObject reference = Json.createObject();
+        reference.put(JsonConstants.UIDL_KEY_EXECUTE_SCRIPT_ID,
+                uiInternals.getConstantPool().getConstantId(key));
+        return reference;
+    }
+
     /**
      * Encodes the state tree changes of the given UI. The executions registered
      * at
@@ -658,41 +658,46 @@ public final class BundleValidationUtil {
                 return false;
             }
             compareFrontendHashes(frontendHashes, faultyContent, jarImport,
-                    jarResourceString);
+                    calculateHash(jarResourceString));
         }
 
-        for (String projectImport : projectImports) {
-            File frontendFile = new File(options.getFrontendDirectory(),
-                    projectImport);
-            if (!frontendFile.exists()) {
-                getLogger().info("No file found for '{}'", projectImport);
-                return false;
+        FrontendFileHashCache hashCache = FrontendFileHashCache.load(options);
+        // Unused hashes are only pruned once all inputs have been hashed,
+        // otherwise an early return would drop still valid hashes
+        boolean allFilesHashed = false;
+        try {
+            for (String projectImport : projectImports) {
+                File frontendFile = new File(options.getFrontendDirectory(),
+                        projectImport);
+                if (!frontendFile.exists()) {
+                    getLogger().info("No file found for '{}'", projectImport);
+                    return false;
+                }
+                compareFrontendHashes(frontendHashes, faultyContent,
+                        projectImport, hashCache.getHash(frontendFile));
             }
-            String frontendFileContent = FileUtils
-                    .readFileToString(frontendFile, StandardCharsets.UTF_8);
-            compareFrontendHashes(frontendHashes, faultyContent, projectImport,
-                    frontendFileContent);
-        }
 
-        if (!faultyContent.isEmpty()) {
-            logChangedFiles(faultyContent,
-                    "Detected changed content for frontend files:");
-            return false;
-        }
+            if (!faultyContent.isEmpty()) {
+                logChangedFiles(faultyContent,
+                        "Detected changed content for frontend files:");
+                return false;
+            }
 
-        if (indexFileAddedOrDeleted(options, frontendHashes)) {
-            return false;
-        }
+            if (indexFileAddedOrDeleted(options, frontendHashes)) {
+                return false;
+            }
 
-        Map<String, String> remainingImports = getRemainingImports(jarImports,
-                projectImports, frontendHashes);
+            Map<String, String> remainingImports = getRemainingImports(
+                    jarImports, projectImports, frontendHashes);
 
-        if (importedFrontendFilesChanged(options.getFrontendDirectory(),
-                remainingImports)) {
-            return false;
+            boolean importedFilesChanged = importedFrontendFilesChanged(
+                    options.getFrontendDirectory(), remainingImports,
+                    hashCache);
+            allFilesHashed = true;
+            return !importedFilesChanged;
+        } finally {
+            hashCache.save(allFilesHashed);
         }
-
-        return true;
     }
 
     private static boolean indexFileAddedOrDeleted(Options options,
@@ -741,12 +746,15 @@ public final class BundleValidationUtil {
      * @param remainingImports
      *            frontend resource imports listed in the bundle, but not found
      *            with class scanner.
+     * @param hashCache
+     *            cache for the content hashes of frontend files
      * @return true if changes detected, false otherwise
      * @throws IOException
      *             if exception is thrown while reading files content
      */
     private static boolean importedFrontendFilesChanged(File frontendDirectory,
-            Map<String, String> remainingImports) throws IOException {
+            Map<String, String> remainingImports,
+            FrontendFileHashCache hashCache) throws IOException {
         if (!remainingImports.isEmpty()) {
             List<String> changed = new ArrayList<>();
             for (Map.Entry<String, String> importEntry : remainingImports
@@ -755,9 +763,7 @@ public final class BundleValidationUtil {
                 String expectedHash = importEntry.getValue();
                 File frontendFile = new File(frontendDirectory, filePath);
                 if (frontendFile.exists()) {
-                    final String hash = calculateHash(
-                            FileUtils.readFileToString(frontendFile,
-                                    StandardCharsets.UTF_8));
+                    final String hash = hashCache.getHash(frontendFile);
                     if (!expectedHash.equals(hash)) {
                         changed.add(filePath);
                     }
@@ -773,8 +779,7 @@ public final class BundleValidationUtil {
 
     private static void compareFrontendHashes(JsonObject frontendHashes,
             List<String> faultyContent, String frontendFilePath,
-            String frontendFileContent) {
-        final String contentHash = calculateHash(frontendFileContent);
+            String contentHash) {
         if (frontendHashes.hasKey(frontendFilePath) && !frontendHashes
                 .getString(frontendFilePath).equals(contentHash)) {
             faultyContent.add(frontendFilePath);
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2000-2024 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.frontend;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental.json.Json;
+import elemental.json.JsonException;
+import elemental.json.JsonObject;
+
+/**
+ * Caches content hashes of frontend files between bundle validations.
+ * <p>
+ * A cached hash is reused as long as the size and the last modification time
+ * of the file are unchanged, so unchanged files do not need to be read and
+ * hashed again. The cache is stored in the build directory. When all input
+ * files have been requested, hashes of files that were not requested, e.g.
+ * deleted files, are dropped on save.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ */
+class FrontendFileHashCache {
+
+    static final String CACHE_FILE = "frontend-file-hashes.json";
+
+    private static final String SIZE = "size";
+    private static final String LAST_MODIFIED = "lastModified";
+    private static final String HASH = "hash";
+
+    /**
+     * Files modified less than this many milliseconds ago are not cached, as a
+     * further change within the timestamp resolution of the file system would
+     * go unnoticed.
+     */
+    private static final long MODIFICATION_GRACE_PERIOD = 2000;
+
+    private final File cacheFile;
+    private final JsonObject entries;
+    private final Set<String> seenKeys = new HashSet<>();
+    private boolean changed;
+
+    private FrontendFileHashCache(File cacheFile, JsonObject entries) {
+        this.cacheFile = cacheFile;
+        this.entries = entries;
+    }
+
+    /**
+     * Loads the cache from the build directory. An empty cache is returned if
+     * there is no cache file or if it cannot be read.
+     *
+     * @param options
+     *            the build options
+     * @return the cache, not {@code null}
+     */
+    static FrontendFileHashCache load(Options options) {
+        File cacheFile = new File(options.getBuildDirectory(), CACHE_FILE);
+        JsonObject entries = null;
+        if (cacheFile.exists()) {
+            try {
+                entries = Json.parse(FileUtils.readFileToString(cacheFile,
+                        StandardCharsets.UTF_8));
+            } catch (IOException | JsonException e) {
+                getLogger().debug("Unable to read frontend file hashes from {}",
+                        cacheFile, e);
+            }
+        }
+        return new FrontendFileHashCache(cacheFile,
+                entries == null ? Json.createObject() : entries);
+    }
+
+    /**
+     * Gets the content hash of the given file as calculated by
+     * {@link BundleValidationUtil#calculateHash(String)}.
+     *
+     * @param file
+     *            the file to get the hash for
+     * @return the content hash
+     * @throws IOException
+     *             if the file cannot be read
+     */
+    String getHash(File file) throws IOException {
+        String key = file.getAbsolutePath();
+        seenKeys.add(key);
+        long size = file.length();
+        long lastModified = file.lastModified();
+        if (entries.hasKey(key)) {
+            JsonObject entry = entries.getObject(key);
+            if (entry.getNumber(SIZE) == size
+                    && entry.getNumber(LAST_MODIFIED) == lastModified) {
+                return entry.getString(HASH);
+            }
+        }
+
+        String hash = BundleValidationUtil.calculateHash(
+                FileUtils.readFileToString(file, StandardCharsets.UTF_8));
+        if (System.currentTimeMillis()
+                - lastModified > MODIFICATION_GRACE_PERIOD) {
+            JsonObject entry = Json.createObject();
+            entry.put(SIZE, size);
+            entry.put(LAST_MODIFIED, lastModified);
+            entry.put(HASH, hash);
+            entries.put(key, entry);
+            changed = true;
+        } else if (entries.hasKey(key)) {
+            entries.remove(key);
+            changed = true;
+        }
+        return hash;
+    }
+
+    /**
+     * Writes the cache to the build directory if any hash was added or
+     * removed.
+     *
+     * @param pruneUnrequested
+     *            {@code true} to remove the hashes of files that were not
+     *            requested since the cache was loaded, only to be used when
+     *            the hashes of all input files were requested
+     */
+    void save(boolean pruneUnrequested) {
+        if (pruneUnrequested) {
+            for (String key : entries.keys()) {
+                if (!seenKeys.contains(key)) {
+                    entries.remove(key);
+                    changed = true;
+                }
+            }
+        }
+        if (!changed) {
+            return;
+        }
+        try {
+            FileIOUtils.writeIfChanged(cacheFile, entries.toJson());
+            changed = false;
+        } catch (IOException e) {
+            getLogger().debug("Unable to write frontend file hashes to {}",
+                    cacheFile, e);
+        }
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(FrontendFileHashCache.class);
+    }
+}
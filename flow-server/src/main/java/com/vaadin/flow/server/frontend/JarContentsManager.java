@@ -21,8 +21,11 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.jar.JarEntry;
@@ -271,17 +274,69 @@ public class JarContentsManager {
                             outputDirectory));
         }
 
-        String basePath = normalizeJarBasePath(jarDirectoryToCopyFrom);
+        Map<String, String[]> inclusions = new LinkedHashMap<>();
+        inclusions.put(jarDirectoryToCopyFrom, wildcardPathInclusions);
+        return copyIncludedFilesFromJarTrimmingBasePath(jar, outputDirectory,
+                inclusions);
+    }
+
+    /**
+     * Copies files matching the inclusion filters from several directories of
+     * the jar file to the output directory.
+     * <p>
+     * The result is the same as calling
+     * {@link #copyIncludedFilesFromJarTrimmingBasePath(File, String, File, String...)}
+     * once for each directory in iteration order, but the jar file is opened
+     * and its entries are listed only once.
+     *
+     * @param jar
+     *            jar file to look for files in, not {@code null}
+     * @param outputDirectory
+     *            the directory to copy files to, not {@code null}
+     * @param wildcardPathInclusions
+     *            wildcard inclusions for each path relative to jar root that
+     *            files are copied from, not {@code null}. Files will be copied
+     *            relative to the path (i.e. only path part after the path is
+     *            preserved in output directory)
+     * @return names of the files that were either copied or already existed in
+     *         the output directory
+     * @throws IllegalArgumentException
+     *             if jar file specified is not a file or does not exist or if
+     *             output directory is not a directory or does not exist
+     * @throws NullPointerException
+     *             if jar file or output directory is {@code null}
+     * @throws UncheckedIOException
+     *             if {@link IOException} occurs during the operation, for
+     *             instance, when jar file specified is not a jar file
+     */
+    public Set<String> copyIncludedFilesFromJarTrimmingBasePath(File jar,
+            File outputDirectory,
+            Map<String, String[]> wildcardPathInclusions) {
+        requireFileExistence(jar);
+
+        if (!Objects.requireNonNull(outputDirectory).isDirectory()) {
+            throw new IllegalArgumentException(
+                    String.format("Expect '%s' to be an existing directory",
+                            outputDirectory));
+        }
 
         try (JarFile jarFile = new JarFile(jar, false)) {
-            Set<String> handledFiles = jarFile.stream()
+            List<JarEntry> files = jarFile.stream()
                     .filter(file -> !file.isDirectory())
-                    .filter(file -> file.getName().toLowerCase(Locale.ENGLISH)
-                            .startsWith(basePath.toLowerCase(Locale.ENGLISH)))
-                    .filter(file -> includeFile(file, wildcardPathInclusions))
-                    .map(jarEntry -> copyJarEntryTrimmingBasePath(jarFile,
-                            jarEntry, basePath, outputDirectory))
-                    .collect(Collectors.toSet());
+                    .collect(Collectors.toList());
+            Set<String> handledFiles = new HashSet<>();
+            wildcardPathInclusions.forEach((directory, inclusions) -> {
+                String basePath = normalizeJarBasePath(directory);
+                files.stream()
+                        .filter(file -> file.getName()
+                                .toLowerCase(Locale.ENGLISH)
+                                .startsWith(basePath
+                                        .toLowerCase(Locale.ENGLISH)))
+                        .filter(file -> includeFile(file, inclusions))
+                        .map(jarEntry -> copyJarEntryTrimmingBasePath(jarFile,
+                                jarEntry, basePath, outputDirectory))
+                        .forEach(handledFiles::add);
+            });
             return handledFiles;
         } catch (IOException e) {
             throw new UncheckedIOException(String.format(
@@ -320,7 +375,10 @@ public class JarContentsManager {
                         + basePath.length());
         File target = new File(outputDirectory, relativePath);
         try {
-            if (!target.exists()
+            // A differing size means differing content, so the entry does not
+            // need to be decompressed just for the comparison
+            long size = jarEntry.getSize();
+            if (!target.exists() || (size >= 0 && size != target.length())
                     || !hasSameContent(jarFile.getInputStream(jarEntry),
                             target)) {
                 FileUtils.copyInputStreamToFile(
@@ -26,7 +26,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -343,15 +345,46 @@ public class NodeTasks implements FallibleCommand {
         try {
             sortCommands(commands);
             GeneratedFilesSupport generatedFilesSupport = new GeneratedFilesSupport();
+            Map<FallibleCommand, Long> timings = new LinkedHashMap<>();
             for (FallibleCommand command : commands) {
                 command.setGeneratedFileSupport(generatedFilesSupport);
+                long start = System.nanoTime();
                 command.execute();
+                timings.put(command, System.nanoTime() - start);
+            }
+            if (getLogger().isDebugEnabled()) {
+                getLogger().debug(getTimingReport(timings));
             }
         } finally {
             releaseLock();
         }
     }
 
+    /**
+     * Creates a report of the execution times of the given commands, one line
+     * per command in execution order, followed by the total time.
+     *
+     * @param timings
+     *            the execution time in nanoseconds for each command
+     * @return the timing report
+     */
+    static String getTimingReport(Map<FallibleCommand, Long> timings) {
+        StringBuilder report = new StringBuilder("Task execution times:");
+        long total = 0;
+        for (Map.Entry<FallibleCommand, Long> timing : timings.entrySet()) {
+            Class<?> commandType = timing.getKey().getClass();
+            String name = commandType.getSimpleName().isEmpty()
+                    ? commandType.getName()
+                    : commandType.getSimpleName();
+            report.append(String.format("%n  %-40s %6d ms", name,
+                    timing.getValue() / 1000000));
+            total += timing.getValue();
+        }
+        report.append(String.format("%n  %-40s %6d ms", "Total",
+                total / 1000000));
+        return report.toString();
+    }
+
     private void getLock() {
         boolean loggedWaiting = false;
 
@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -76,6 +78,13 @@ public class TaskCopyFrontendFiles
                     + targetDirectory.getAbsolutePath());
         }
         JarContentsManager jarContentsManager = new JarContentsManager();
+        // All directories are copied in a single pass over each jar
+        Map<String, String[]> jarInclusions = new LinkedHashMap<>();
+        jarInclusions.put(RESOURCES_FRONTEND_DEFAULT, WILDCARD_INCLUSIONS);
+        jarInclusions.put(COMPATIBILITY_RESOURCES_FRONTEND_DEFAULT,
+                WILDCARD_INCLUSIONS);
+        jarInclusions.put(RESOURCES_JAR_DEFAULT,
+                new String[] { WILDCARD_INCLUSION_APP_THEME_JAR });
         Set<String> handledFiles = new HashSet<>();
         for (File location : resourceLocations) {
             if (location.isDirectory()) {
@@ -96,16 +105,7 @@ public class TaskCopyFrontendFiles
             } else {
                 handledFiles.addAll(jarContentsManager
                         .copyIncludedFilesFromJarTrimmingBasePath(location,
-                                RESOURCES_FRONTEND_DEFAULT, targetDirectory,
-                                WILDCARD_INCLUSIONS));
-                handledFiles.addAll(jarContentsManager
-                        .copyIncludedFilesFromJarTrimmingBasePath(location,
-                                COMPATIBILITY_RESOURCES_FRONTEND_DEFAULT,
-                                targetDirectory, WILDCARD_INCLUSIONS));
-                handledFiles.addAll(jarContentsManager
-                        .copyIncludedFilesFromJarTrimmingBasePath(location,
-                                RESOURCES_JAR_DEFAULT, targetDirectory,
-                                WILDCARD_INCLUSION_APP_THEME_JAR));
+                                targetDirectory, jarInclusions));
             }
         }
         existingFiles.removeAll(handledFiles);
@@ -17,6 +17,7 @@ package com.vaadin.flow.server.frontend.scanner;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -88,6 +89,12 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
             + ")");
     //@formatter:on
 
+    /**
+     * Minimum number of classes discovered at the same depth that are read in
+     * parallel. Smaller batches are not worth the scheduling overhead.
+     */
+    private static final int PARALLEL_VISIT_THRESHOLD = 16;
+
     private final HashMap<String, EntryPointData> entryPoints = new LinkedHashMap<>();
     private ThemeDefinition themeDefinition;
     private AbstractTheme themeInstance;
@@ -148,11 +155,14 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
                 "Scanning classes to find frontend configurations and dependencies...");
         long start = System.nanoTime();
         try {
+            long phaseStart = start;
             routeClass = getFinder().loadClass(Route.class.getName());
             computeEagerRouteConfiguration();
 
             collectEntryPoints(generateEmbeddableWebComponents);
+            phaseStart = logPhase("Collecting entry points", phaseStart);
             visitEntryPoints();
+            phaseStart = logPhase("Visiting entry points", phaseStart);
             computeApplicationTheme();
             if (themeDefinition != null && themeDefinition.getTheme() != null) {
                 Class<? extends AbstractTheme> themeClass = themeDefinition
@@ -162,9 +172,12 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
                     visitEntryPoint(entryPoints.get(themeClass.getName()));
                 }
             }
+            phaseStart = logPhase("Computing application theme", phaseStart);
             computePackages();
+            phaseStart = logPhase("Computing npm packages", phaseStart);
             computePwaConfiguration();
             aggregateEntryPointInformation();
+            logPhase("Aggregating entry point information", phaseStart);
             long ms = (System.nanoTime() - start) / 1000000;
             log().info("Visited {} classes. Took {} ms.", visitedClasses.size(),
                     ms);
@@ -175,6 +188,15 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
         }
     }
 
+    private long logPhase(String phase, long phaseStart) {
+        long now = System.nanoTime();
+        if (log().isDebugEnabled()) {
+            log().debug("{} took {} ms.", phase,
+                    (now - phaseStart) / 1000000);
+        }
+        return now;
+    }
+
     private void aggregateEntryPointInformation() {
         for (Entry<String, EntryPointData> entry : entryPoints.entrySet()) {
             EntryPointData entryPoint = entry.getValue();
@@ -801,23 +823,65 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
     }
 
     /**
-     * Recursive method for visiting class names using bytecode inspection.
+     * Visits the class and all classes reachable from it using bytecode
+     * inspection.
+     * <p>
+     * Classes are visited breadth first. All classes discovered at the same
+     * depth are read in parallel when there are enough of them, since reading
+     * one class does not depend on any other class.
      *
      * @param className
      * @param entryPoint
-     * @return
      * @throws IOException
      */
     void visitClass(String className, EntryPointData entryPoint)
             throws IOException {
+        List<ClassInfo> batch = new ArrayList<>();
+        addToVisit(className, batch);
+        while (!batch.isEmpty()) {
+            readClasses(batch);
+
+            List<ClassInfo> next = new ArrayList<>();
+            for (ClassInfo info : batch) {
+                for (String clazz : info.children) {
+                    addToVisit(clazz, next);
+                }
+            }
+            batch = next;
+        }
+    }
 
+    private void addToVisit(String className, List<ClassInfo> batch) {
         if (visitedClasses.containsKey(className) || !shouldVisit(className)) {
             return;
         }
         ClassInfo info = new ClassInfo(className);
         visitedClasses.put(className, info);
+        batch.add(info);
+    }
+
+    private void readClasses(List<ClassInfo> batch) throws IOException {
+        if (batch.size() < PARALLEL_VISIT_THRESHOLD) {
+            for (ClassInfo info : batch) {
+                readClass(info);
+            }
+            return;
+        }
+        try {
+            batch.parallelStream().forEach(info -> {
+                try {
+                    readClass(info);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
 
-        URL url = getUrl(className);
+    private void readClass(ClassInfo info) throws IOException {
+        URL url = getUrl(info.className);
         if (url == null) {
             return;
         }
@@ -825,17 +889,16 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
         FrontendClassVisitor visitor = new FrontendClassVisitor(info);
         try (InputStream is = url.openStream()) {
             ClassReader cr = new ClassReader(is);
-            cr.accept(visitor, ClassReader.EXPAND_FRAMES);
+            // Only annotations and referenced types are collected, so stack
+            // map frames and debug information can be skipped
+            cr.accept(visitor,
+                    ClassReader.SKIP_FRAMES | ClassReader.SKIP_DEBUG);
         } catch (Exception e) {
             log().error(
                     "Visiting class {} failed with {}.\nThis might be a broken class in the project.",
-                    className, e.getMessage());
+                    info.className, e.getMessage());
             throw e;
         }
-
-        for (String clazz : info.children) {
-            visitClass(clazz, entryPoint);
-        }
     }
 
     protected boolean shouldVisit(String className) {
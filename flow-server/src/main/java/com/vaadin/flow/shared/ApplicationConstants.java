@@ -226,4 +226,33 @@ public class ApplicationConstants implements Serializable {
      */
     public static final String UNLOAD_BEACON = "UNLOAD";
 
+    /**
+     * The name of the parameter used for requesting the client to report its
+     * processing time of a response, and for the report sent by the client.
+     */
+    public static final String CLIENT_TIMING = "clientTiming";
+
+    /**
+     * The key for the sync id of the response in a client timing report.
+     */
+    public static final String CLIENT_TIMING_SYNC_ID = "syncId";
+
+    /**
+     * The key for the total time spent handling the response in a client
+     * timing report.
+     */
+    public static final String CLIENT_TIMING_PROCESSING = "processing";
+
+    /**
+     * The key for the time spent applying state tree changes in a client
+     * timing report.
+     */
+    public static final String CLIENT_TIMING_CHANGES = "changes";
+
+    /**
+     * The key for the time spent flushing bindings to the DOM in a client
+     * timing report.
+     */
+    public static final String CLIENT_TIMING_FLUSH = "flush";
+
 }
@@ -165,6 +165,12 @@ public class JsonConstants implements Serializable {
      */
     public static final String UIDL_KEY_EXECUTE = "execute";
 
+    /**
+     * Key used in an {@link #UIDL_KEY_EXECUTE} invocation to refer to a script
+     * that has been sent to the client through the constant pool.
+     */
+    public static final String UIDL_KEY_EXECUTE_SCRIPT_ID = "scriptId";
+
     /**
      * Key used to hold the feature id when synchronizing node values.
      */
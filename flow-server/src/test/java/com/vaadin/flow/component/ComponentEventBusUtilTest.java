@@ -22,6 +22,7 @@ import org.junit.Test;
 
 import com.vaadin.flow.component.ComponentTest.TestComponent;
 import com.vaadin.flow.internal.ReflectionCache;
+import com.vaadin.flow.router.RouterLink;
 
 public class ComponentEventBusUtilTest {
 
@@ -104,4 +105,26 @@ public class ComponentEventBusUtilTest {
                     exception.getMessage());
         }
     }
+
+    @Test
+    public void domEvent_eventTypeInfoInConstructorParameterOrder() {
+        ComponentEventBusUtil.EventTypeInfo info = ComponentEventBusUtil
+                .getEventTypeInfo(MappedDomEventWithRouterLinkData.class);
+
+        Assert.assertEquals(Component.class, info.sourceType);
+        Assert.assertArrayEquals(
+                new String[] { "component", "router.link" },
+                info.dataExpressionArray);
+        Assert.assertArrayEquals(
+                new Class<?>[] { Component.class, RouterLink.class },
+                info.dataTypes);
+        Assert.assertArrayEquals(new boolean[] { true, true },
+                info.elementReferences);
+
+        info = ComponentEventBusUtil.getEventTypeInfo(MappedToDomEvent.class);
+        Assert.assertArrayEquals(new Class<?>[] { int.class, String.class,
+                boolean.class, Boolean.class }, info.dataTypes);
+        Assert.assertArrayEquals(new boolean[] { false, false, false, false },
+                info.elementReferences);
+    }
 }
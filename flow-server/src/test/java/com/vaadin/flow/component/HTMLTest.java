@@ -158,4 +158,18 @@ public class HTMLTest {
         Assert.assertEquals("style", html.getElement().getTag());
     }
 
+    @Test
+    public void sameHtmlTwice_instancesAreIndependent() {
+        String outerHtml = "<div class='foo' id='bar'>hello <b>world</b></div>";
+        Html first = new Html(outerHtml);
+        first.getElement().setAttribute("id", "changed");
+        first.getElement().getClassList().add("baz");
+
+        Html second = new Html(outerHtml);
+        Assert.assertNotSame(first.getElement(), second.getElement());
+        Assert.assertEquals(Tag.DIV, second.getElement().getTag());
+        Assert.assertEquals("bar", second.getElement().getAttribute("id"));
+        Assert.assertEquals("foo", second.getElement().getAttribute("class"));
+        Assert.assertEquals("hello <b>world</b>", second.getInnerHtml());
+    }
 }
@@ -31,9 +31,11 @@ import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.nodefeature.ElementChildrenList;
 import com.vaadin.flow.internal.nodefeature.ElementData;
 import com.vaadin.flow.router.Location;
+import com.vaadin.flow.router.NavigationTrigger;
 import com.vaadin.flow.router.ParentLayout;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.router.RouterLayout;
+import com.vaadin.flow.router.internal.NavigationTracer;
 import com.vaadin.flow.server.VaadinContext;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.shared.Registration;
@@ -550,6 +552,23 @@ public class UIInternalsTest {
                                         .stripIndent()));
     }
 
+    @Test
+    public void navigationTracesNotDelivered_oldestTracesDropped() {
+        Mockito.when(vaadinService.hasNavigationTraceListeners())
+                .thenReturn(true);
+
+        List<NavigationTracer> finished = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            NavigationTracer tracer = internals.startNavigationTrace(
+                    new Location("view" + i), NavigationTrigger.PROGRAMMATIC);
+            internals.finishNavigationTrace(tracer);
+            finished.add(tracer);
+        }
+
+        Assert.assertEquals(finished.subList(4, 20),
+                internals.dumpCompletedNavigationTracers());
+    }
+
     private PushConfiguration setUpInitialPush() {
         DeploymentConfiguration config = Mockito
                 .mock(DeploymentConfiguration.class);
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2000-2024 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.i18n;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DefaultI18NProviderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File translations;
+    private ClassLoader urlClassLoader;
+    private DefaultI18NProvider provider;
+
+    @Before
+    public void init() throws IOException {
+        File resources = temporaryFolder.newFolder();
+
+        translations = new File(resources, DefaultI18NProvider.BUNDLE_FOLDER);
+        translations.mkdirs();
+
+        urlClassLoader = new URLClassLoader(
+                new URL[] { resources.toURI().toURL() });
+        provider = new DefaultI18NProvider(
+                Collections.singletonList(Locale.ENGLISH), urlClassLoader);
+    }
+
+    @After
+    public void cleanup() {
+        ResourceBundle.clearCache(urlClassLoader);
+    }
+
+    @Test
+    public void getTranslation_withParams_formatsEachTime() throws IOException {
+        writeTranslations("greeting=Hello {0}");
+
+        Assert.assertEquals("Hello foo",
+                provider.getTranslation("greeting", Locale.ENGLISH, "foo"));
+        Assert.assertEquals("Hello bar",
+                provider.getTranslation("greeting", Locale.ENGLISH, "bar"));
+    }
+
+    @Test
+    public void getTranslation_bundleReloaded_newPatternUsed()
+            throws IOException {
+        writeTranslations("greeting=Hello {0}");
+        Assert.assertEquals("Hello foo",
+                provider.getTranslation("greeting", Locale.ENGLISH, "foo"));
+
+        writeTranslations("greeting=Hi {0}");
+        ResourceBundle.clearCache(urlClassLoader);
+
+        Assert.assertEquals("Hi foo",
+                provider.getTranslation("greeting", Locale.ENGLISH, "foo"));
+    }
+
+    @Test
+    public void getTranslations_severalKeys_allTranslatedInOrder()
+            throws IOException {
+        writeTranslations("title=Title\nlabel=Label");
+
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("label", "Label");
+        expected.put("title", "Title");
+        expected.put("missing", "!en: missing");
+
+        Map<String, String> translations = provider.getTranslations(
+                Arrays.asList("label", "title", "missing"), Locale.ENGLISH);
+        Assert.assertEquals(expected, translations);
+        Assert.assertEquals(Arrays.asList("label", "title", "missing"),
+                Arrays.asList(translations.keySet().toArray()));
+    }
+
+    private void writeTranslations(String content) throws IOException {
+        File file = new File(translations,
+                DefaultI18NProvider.BUNDLE_FILENAME + ".properties");
+        Files.writeString(file.toPath(), content, StandardCharsets.UTF_8);
+    }
+}
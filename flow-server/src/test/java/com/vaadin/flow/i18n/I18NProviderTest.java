@@ -0,0 +1,55 @@
+/*
+ * Copyright 2000-2024 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.i18n;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class I18NProviderTest {
+
+    private final I18NProvider provider = new I18NProvider() {
+        @Override
+        public List<Locale> getProvidedLocales() {
+            return Collections.singletonList(Locale.ENGLISH);
+        }
+
+        @Override
+        public String getTranslation(String key, Locale locale,
+                Object... params) {
+            return key.toUpperCase(locale);
+        }
+    };
+
+    @Test
+    public void getTranslations_defaultImplementation_eachKeyTranslatedInOrder() {
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("title", "TITLE");
+        expected.put("label", "LABEL");
+
+        Map<String, String> translations = provider.getTranslations(
+                Arrays.asList("title", "label"), Locale.ENGLISH);
+        Assert.assertEquals(expected, translations);
+        Assert.assertEquals(Arrays.asList("title", "label"),
+                Arrays.asList(translations.keySet().toArray()));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2000-2024 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LruCacheTest {
+
+    @Test
+    public void put_limitExceeded_leastRecentlyUsedEntryRemoved() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        // Makes "b" the least recently used entry
+        cache.get("a");
+        cache.put("c", 3);
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(Integer.valueOf(1), cache.get("a"));
+        Assert.assertNull(cache.get("b"));
+        Assert.assertEquals(Integer.valueOf(3), cache.get("c"));
+    }
+
+    @Test
+    public void put_existingKey_previousValueReturned() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        Assert.assertNull(cache.put("a", 1));
+        Assert.assertEquals(Integer.valueOf(1), cache.put("a", 2));
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void create_noEntriesAllowed_throws() {
+        new LruCache<String, Integer>(0);
+    }
+}
@@ -16,6 +16,10 @@
 
 package com.vaadin.flow.internal;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -52,6 +56,7 @@ import com.vaadin.flow.internal.nodefeature.ElementData;
 import com.vaadin.flow.internal.nodefeature.ElementPropertyMap;
 import com.vaadin.flow.internal.nodefeature.InertData;
 import com.vaadin.flow.internal.nodefeature.NodeFeature;
+import com.vaadin.flow.internal.nodefeature.PushConfigurationMap;
 import com.vaadin.flow.shared.Registration;
 
 public class StateNodeTest {
@@ -1886,4 +1891,32 @@ public class StateNodeTest {
 
         Assert.assertEquals(0, changes.size());
     }
+
+    @Test
+    public void serialize_deserializedNodesShareFeatureSet()
+            throws Exception {
+        Element element = new Element("div");
+        element.setProperty("foo", "bar");
+        StateNode node = element.getNode();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(node);
+        }
+        StateNode deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = (StateNode) in.readObject();
+        }
+
+        Field featureSet = StateNode.class.getDeclaredField("featureSet");
+        featureSet.setAccessible(true);
+        Assert.assertSame(featureSet.get(node), featureSet.get(deserialized));
+
+        Assert.assertEquals("bar", deserialized
+                .getFeature(ElementPropertyMap.class).getProperty("foo"));
+        Assert.assertTrue(deserialized.hasFeature(ElementChildrenList.class));
+        Assert.assertFalse(
+                deserialized.hasFeature(PushConfigurationMap.class));
+    }
 }
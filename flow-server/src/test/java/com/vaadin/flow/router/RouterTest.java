@@ -59,6 +59,8 @@ import com.vaadin.flow.router.RouterTest.CombinedObserverTarget.Enter;
 import com.vaadin.flow.router.RouterTest.CombinedObserverTarget.Leave;
 import com.vaadin.flow.router.internal.DefaultErrorHandler;
 import com.vaadin.flow.router.internal.HasUrlParameterFormat;
+import com.vaadin.flow.router.internal.NavigationTracer;
+import com.vaadin.flow.router.internal.RouteTargetPool;
 import com.vaadin.flow.server.HttpStatusCode;
 import com.vaadin.flow.server.InvalidRouteConfigurationException;
 import com.vaadin.flow.server.VaadinService;
@@ -1821,6 +1823,46 @@ public class RouterTest extends RoutingTestBase {
         }
     }
 
+    @Route("reused")
+    @Tag(Tag.DIV)
+    @ReuseRouteTarget
+    public static class ReusedTarget extends Component
+            implements ReusableRouteTarget {
+        static AtomicInteger instancesCreated = new AtomicInteger(0);
+
+        int resetCount;
+
+        public ReusedTarget() {
+            instancesCreated.incrementAndGet();
+        }
+
+        @Override
+        public void reset() {
+            resetCount++;
+        }
+    }
+
+    @Route("reused-rerouting")
+    @Tag(Tag.DIV)
+    @ReuseRouteTarget
+    public static class ReroutingReusedTarget extends Component
+            implements BeforeEnterObserver {
+        static boolean reroute;
+
+        @Override
+        public void beforeEnter(BeforeEnterEvent event) {
+            if (reroute) {
+                event.rerouteTo(FooNavigationTarget.class);
+            }
+        }
+    }
+
+    @Route("reused-briefly")
+    @Tag(Tag.DIV)
+    @ReuseRouteTarget(maxIdleSeconds = 0)
+    public static class BrieflyReusedTarget extends Component {
+    }
+
     @Route("forwardtourl")
     @Tag(Tag.DIV)
     public static class RedirectToExternalUrl extends Component {
@@ -1878,6 +1920,147 @@ public class RouterTest extends RoutingTestBase {
                 getUIComponentClass());
     }
 
+    @Test
+    public void navigationTraceListener_navigationIsTraced()
+            throws InvalidRouteConfigurationException {
+        setNavigationTargets(RootNavigationTarget.class,
+                FooNavigationTarget.class);
+        ui.getSession().getService().addNavigationTraceListener(trace -> {
+        });
+
+        router.navigate(ui, new Location("foo"),
+                NavigationTrigger.PROGRAMMATIC);
+
+        Assert.assertFalse("No navigation should be traced after completion",
+                ui.getInternals().getNavigationTracer().isEnabled());
+        List<NavigationTracer> tracers = ui.getInternals()
+                .dumpCompletedNavigationTracers();
+        Assert.assertEquals(1, tracers.size());
+
+        NavigationTrace trace = tracers.get(0).toTrace(-1);
+        Assert.assertEquals("foo", trace.getLocation().getPath());
+        Assert.assertEquals(NavigationTrigger.PROGRAMMATIC,
+                trace.getTrigger());
+        Assert.assertEquals(FooNavigationTarget.class,
+                trace.getNavigationTarget());
+        Assert.assertEquals(200, trace.getStatusCode());
+        Assert.assertEquals(1, trace.getCreatedComponents());
+        for (NavigationTrace.Phase phase : NavigationTrace.Phase.values()) {
+            Assert.assertFalse(phase + " should have a duration",
+                    trace.getDuration(phase).isNegative());
+        }
+        Assert.assertTrue(ui.getInternals().dumpCompletedNavigationTracers()
+                .isEmpty());
+    }
+
+    @Test
+    public void noNavigationTraceListener_navigationIsNotTraced()
+            throws InvalidRouteConfigurationException {
+        setNavigationTargets(RootNavigationTarget.class,
+                FooNavigationTarget.class);
+
+        router.navigate(ui, new Location("foo"),
+                NavigationTrigger.PROGRAMMATIC);
+
+        Assert.assertEquals(FooNavigationTarget.class, getUIComponentClass());
+        Assert.assertTrue(ui.getInternals().dumpCompletedNavigationTracers()
+                .isEmpty());
+    }
+
+    @Test
+    public void reuseRouteTarget_navigateBack_instanceReused()
+            throws InvalidRouteConfigurationException {
+        setNavigationTargets(ReusedTarget.class, FooNavigationTarget.class);
+        ReusedTarget.instancesCreated.set(0);
+
+        router.navigate(ui, new Location("reused"),
+                NavigationTrigger.PROGRAMMATIC);
+        ReusedTarget first = (ReusedTarget) ui.getInternals()
+                .getActiveRouterTargetsChain().get(0);
+
+        router.navigate(ui, new Location("foo"),
+                NavigationTrigger.PROGRAMMATIC);
+        Assert.assertFalse(first.getParent().isPresent());
+
+        router.navigate(ui, new Location("reused"),
+                NavigationTrigger.PROGRAMMATIC);
+
+        Assert.assertSame(first,
+                ui.getInternals().getActiveRouterTargetsChain().get(0));
+        Assert.assertEquals(1, ReusedTarget.instancesCreated.get());
+        Assert.assertEquals(1, first.resetCount);
+
+        RouteTargetPool pool = RouteTargetPool.get(ui);
+        Assert.assertEquals(1, pool.getReusedCount());
+        Assert.assertEquals(1, pool.getCreatedCount());
+        Assert.assertEquals(0.5, pool.getReuseRate(), 0);
+        Assert.assertEquals(0, pool.getPooledCount());
+    }
+
+    @Test
+    public void reuseRouteTarget_forceInstantiation_newInstanceCreated()
+            throws InvalidRouteConfigurationException {
+        setNavigationTargets(ReusedTarget.class, FooNavigationTarget.class);
+        ReusedTarget.instancesCreated.set(0);
+
+        router.navigate(ui, new Location("reused"),
+                NavigationTrigger.PROGRAMMATIC);
+        router.navigate(ui, new Location("foo"),
+                NavigationTrigger.PROGRAMMATIC);
+        Assert.assertEquals(1, RouteTargetPool.get(ui).getPooledCount());
+
+        router.navigate(ui, new Location("reused"),
+                NavigationTrigger.PROGRAMMATIC, null, true, false);
+
+        Assert.assertEquals(2, ReusedTarget.instancesCreated.get());
+        Assert.assertEquals(1, RouteTargetPool.get(ui).getPooledCount());
+    }
+
+    @Test
+    public void reuseRouteTarget_takenInstanceRerouted_notCountedAsReused()
+            throws InvalidRouteConfigurationException {
+        setNavigationTargets(ReroutingReusedTarget.class,
+                FooNavigationTarget.class);
+        ReroutingReusedTarget.reroute = false;
+
+        router.navigate(ui, new Location("reused-rerouting"),
+                NavigationTrigger.PROGRAMMATIC);
+        router.navigate(ui, new Location("foo"),
+                NavigationTrigger.PROGRAMMATIC);
+        Assert.assertEquals(1, RouteTargetPool.get(ui).getPooledCount());
+
+        ReroutingReusedTarget.reroute = true;
+        router.navigate(ui, new Location("reused-rerouting"),
+                NavigationTrigger.PROGRAMMATIC);
+
+        Assert.assertEquals(FooNavigationTarget.class,
+                getUIComponentClass());
+        RouteTargetPool pool = RouteTargetPool.get(ui);
+        Assert.assertEquals(0, pool.getReusedCount());
+        Assert.assertEquals(1, pool.getCreatedCount());
+    }
+
+    @Test
+    public void reuseRouteTarget_otherTypeReleased_idleInstancesEvicted()
+            throws InvalidRouteConfigurationException, InterruptedException {
+        setNavigationTargets(ReusedTarget.class, BrieflyReusedTarget.class,
+                FooNavigationTarget.class);
+
+        router.navigate(ui, new Location("reused-briefly"),
+                NavigationTrigger.PROGRAMMATIC);
+        router.navigate(ui, new Location("reused"),
+                NavigationTrigger.PROGRAMMATIC);
+        Assert.assertEquals(1, RouteTargetPool.get(ui).getPooledCount());
+
+        Thread.sleep(5);
+        router.navigate(ui, new Location("foo"),
+                NavigationTrigger.PROGRAMMATIC);
+
+        RouteTargetPool pool = RouteTargetPool.get(ui);
+        Assert.assertEquals(1, pool.getPooledCount());
+        Assert.assertEquals(1, pool.getEvictedCount());
+    }
+
     @Test
     public void resolveNavigation_pathContainsDots_dotSegmentIsNotParentReference_noException() {
         router.resolveNavigationTarget("/.../dsfsdfsdf",
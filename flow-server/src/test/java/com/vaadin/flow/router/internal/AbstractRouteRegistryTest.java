@@ -22,6 +22,7 @@ import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.Tag;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.router.RouteBaseData;
+import com.vaadin.flow.router.RouteData;
 import com.vaadin.flow.router.RouterLayout;
 import com.vaadin.flow.router.RoutesChangedEvent;
 import com.vaadin.flow.shared.Registration;
@@ -73,6 +74,38 @@ public class AbstractRouteRegistryTest {
                 2, registry.getRegisteredRoutes().size());
     }
 
+    @Test
+    public void getRegisteredRoutes_configurationUnchanged_sameRoutesReturned() {
+        registry.setRoute("", MyRoute.class, Collections.emptyList());
+
+        List<RouteData> routes = registry.getRegisteredRoutes();
+        Assert.assertSame(
+                "Registered routes should be reused for an unchanged configuration",
+                routes, registry.getRegisteredRoutes());
+
+        registry.setRoute("path", Secondary.class, Collections.emptyList());
+
+        List<RouteData> updated = registry.getRegisteredRoutes();
+        Assert.assertNotSame(routes, updated);
+        Assert.assertEquals(2, updated.size());
+    }
+
+    @Test
+    public void getRegisteredRoutes_duringUpdate_editedRoutesReturned() {
+        registry.setRoute("", MyRoute.class, Collections.emptyList());
+        Assert.assertEquals(1, registry.getRegisteredRoutes().size());
+
+        registry.update(() -> {
+            registry.setRoute("path", Secondary.class,
+                    Collections.emptyList());
+            Assert.assertEquals(
+                    "Updating thread should see the edited configuration", 2,
+                    registry.getRegisteredRoutes().size());
+        });
+
+        Assert.assertEquals(2, registry.getRegisteredRoutes().size());
+    }
+
     @Test
     public void routeChangeListener_correctChangesAreReturned() {
         List<RouteBaseData> added = new ArrayList<>();
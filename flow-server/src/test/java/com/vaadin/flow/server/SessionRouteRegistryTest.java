@@ -211,6 +211,44 @@ public class SessionRouteRegistryTest {
                 sessionRegistry.getNavigationTarget("MyRoute").get());
     }
 
+    @Test
+    public void parentRegistryChanged_sessionRegistryReflectsChanges() {
+        SessionRouteRegistry sessionRegistry = getRegistry(session);
+        sessionRegistry.setRoute("MyRoute", MyRoute.class,
+                Collections.emptyList());
+
+        Assert.assertEquals(1, sessionRegistry.getRegisteredRoutes().size());
+        Assert.assertFalse("Route 'global' should not yet be available",
+                sessionRegistry.getNavigationTarget("global").isPresent());
+
+        registry.setRoute("global", Secondary.class, Collections.emptyList());
+
+        Assert.assertEquals(2, sessionRegistry.getRegisteredRoutes().size());
+        Assert.assertEquals("Route 'global' should be available",
+                Secondary.class,
+                sessionRegistry.getNavigationTarget("global").get());
+
+        registry.removeRoute("global");
+
+        Assert.assertEquals(1, sessionRegistry.getRegisteredRoutes().size());
+        Assert.assertFalse("Route 'global' should have been removed",
+                sessionRegistry.getNavigationTarget("global").isPresent());
+    }
+
+    @Test
+    public void getRegisteredRoutes_modifyingReturnedList_registryNotAffected() {
+        registry.setRoute("global", Secondary.class, Collections.emptyList());
+        SessionRouteRegistry sessionRegistry = getRegistry(session);
+        sessionRegistry.setRoute("MyRoute", MyRoute.class,
+                Collections.emptyList());
+
+        List<RouteData> routes = sessionRegistry.getRegisteredRoutes();
+        Assert.assertEquals(2, routes.size());
+        routes.clear();
+
+        Assert.assertEquals(2, sessionRegistry.getRegisteredRoutes().size());
+    }
+
     @Test
     public void registerRouteWithAliases_routeAliasesRegisteredAsExpected() {
 
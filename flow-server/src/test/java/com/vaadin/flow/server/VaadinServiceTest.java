@@ -21,14 +21,20 @@ import net.jcip.annotations.NotThreadSafe;
 import jakarta.servlet.ServletConfig;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpSessionBindingEvent;
+import jakarta.servlet.http.HttpSessionBindingListener;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import org.junit.Assert;
@@ -46,10 +52,12 @@ import com.vaadin.flow.internal.UsageStatistics;
 import com.vaadin.flow.router.RouteConfiguration;
 import com.vaadin.flow.router.RouteData;
 import com.vaadin.flow.router.Router;
+import com.vaadin.flow.server.communication.HeartbeatHandler;
 import com.vaadin.flow.server.communication.PwaHandler;
 import com.vaadin.flow.server.communication.StreamRequestHandler;
 import com.vaadin.flow.server.communication.WebComponentBootstrapHandler;
 import com.vaadin.flow.server.communication.WebComponentProvider;
+import com.vaadin.flow.shared.ApplicationConstants;
 import com.vaadin.tests.util.MockDeploymentConfiguration;
 
 import static org.hamcrest.CoreMatchers.containsString;
@@ -303,6 +311,156 @@ public class VaadinServiceTest {
         Assert.assertEquals(availableRoutes.get(0).getTemplate(), "test");
     }
 
+    @Test
+    public void requestEnd_heartbeatWithoutLock_sessionLockedElsewhere_cleanupSkipped()
+            throws Exception {
+        MockVaadinServletService service = new MockVaadinServletService();
+        VaadinSession session = Mockito.mock(VaadinSession.class);
+        ReentrantLock lock = new ReentrantLock();
+        Mockito.when(session.getLockInstance()).thenReturn(lock);
+        VaadinRequest request = Mockito.mock(VaadinRequest.class);
+        Mockito.when(request
+                .getAttribute(HeartbeatHandler.HANDLED_WITHOUT_LOCK_ATTRIBUTE))
+                .thenReturn(Boolean.TRUE);
+
+        Thread other = lockInOtherThread(lock);
+        try {
+            service.requestEnd(request, Mockito.mock(VaadinResponse.class),
+                    session);
+        } finally {
+            releaseLockInOtherThread(other);
+        }
+
+        Mockito.verify(session, Mockito.never()).getUIs();
+        Mockito.verify(session, Mockito.never()).unlock();
+        Assert.assertFalse(lock.isLocked());
+    }
+
+    @Test(timeout = 5000)
+    public void findVaadinSession_heartbeat_sessionLockedElsewhere_sessionFoundWithoutLock()
+            throws Exception {
+        ReentrantLock lock = new ReentrantLock();
+        MockVaadinServletService service = new MockVaadinServletService() {
+            @Override
+            protected Lock getSessionLock(WrappedSession wrappedSession) {
+                return lock;
+            }
+        };
+        VaadinSession session = new VaadinSession(service);
+        WrappedSession wrappedSession = Mockito.mock(WrappedSession.class);
+        Mockito.when(
+                wrappedSession.getAttribute(service.getSessionAttributeName()))
+                .thenReturn(session);
+        VaadinRequest request = Mockito.mock(VaadinRequest.class);
+        Mockito.when(request.getParameter(
+                ApplicationConstants.REQUEST_TYPE_PARAMETER))
+                .thenReturn(ApplicationConstants.REQUEST_TYPE_HEARTBEAT);
+        Mockito.when(request.getWrappedSession(Mockito.anyBoolean()))
+                .thenReturn(wrappedSession);
+        Mockito.when(request.getWrappedSession()).thenReturn(wrappedSession);
+
+        Thread other = lockInOtherThread(lock);
+        try {
+            // Would wait for the other thread if the lock were taken
+            Assert.assertSame(session, service.findVaadinSession(request));
+        } finally {
+            releaseLockInOtherThread(other);
+            CurrentInstance.clearAll();
+        }
+    }
+
+    private static Thread lockInOtherThread(ReentrantLock lock)
+            throws InterruptedException {
+        CountDownLatch locked = new CountDownLatch(1);
+        Thread other = new Thread(() -> {
+            lock.lock();
+            try {
+                locked.countDown();
+                // Hold the lock until interrupted by the test
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+            }
+        });
+        other.start();
+        locked.await();
+        return other;
+    }
+
+    private static void releaseLockInOtherThread(Thread other)
+            throws InterruptedException {
+        other.interrupt();
+        other.join();
+    }
+
+    @Test
+    public void requestEnd_replicateChangedSessions_sessionWrittenAgain_sessionNotClosed() {
+        MockDeploymentConfiguration configuration = new MockDeploymentConfiguration();
+        configuration.setApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_REPLICATE_CHANGED_SESSIONS,
+                "true");
+        ReentrantLock lock = new ReentrantLock();
+        MockVaadinServletService service = new MockVaadinServletService(
+                configuration) {
+            @Override
+            protected Lock getSessionLock(WrappedSession wrappedSession) {
+                return lock;
+            }
+        };
+
+        // Notifies the replaced value like a servlet container does
+        Map<String, Object> attributes = new HashMap<>();
+        WrappedSession wrappedSession = Mockito.mock(WrappedSession.class);
+        Mockito.doAnswer(invocation -> {
+            String name = invocation.getArgument(0);
+            Object old = attributes.put(name, invocation.getArgument(1));
+            if (old instanceof HttpSessionBindingListener) {
+                ((HttpSessionBindingListener) old).valueUnbound(
+                        Mockito.mock(HttpSessionBindingEvent.class));
+            }
+            return null;
+        }).when(wrappedSession).setAttribute(Mockito.anyString(),
+                Mockito.any());
+
+        VaadinSession session = new VaadinSession(service);
+        lock.lock();
+        try {
+            session.refreshTransients(wrappedSession, service);
+        } finally {
+            lock.unlock();
+        }
+        VaadinRequest request = Mockito.mock(VaadinRequest.class);
+        Mockito.when(request.getAttribute("requestStartTime"))
+                .thenReturn(System.nanoTime());
+
+        VaadinSession.setCurrent(session);
+        service.setCurrentInstances(request,
+                Mockito.mock(VaadinResponse.class));
+        try {
+            session.lock();
+            try {
+                service.writeToHttpSession(wrappedSession, session);
+                session.setAttribute("foo", "bar");
+            } finally {
+                session.unlock();
+            }
+
+            service.requestEnd(request, Mockito.mock(VaadinResponse.class),
+                    session);
+        } finally {
+            CurrentInstance.clearAll();
+        }
+
+        Mockito.verify(wrappedSession, Mockito.times(2)).setAttribute(
+                service.getSessionAttributeName(), session);
+        Assert.assertEquals(VaadinSessionState.OPEN, session.getState());
+        Assert.assertNull(session
+                .getAttribute(VaadinService.PRESERVE_UNBOUND_SESSION_ATTRIBUTE));
+        Assert.assertFalse(session.hasChangesSinceCheckpoint());
+    }
+
     @Test
     public void dependencyFilterOrder_bundeFiltersAfterApplicationFilters() {
         DependencyFilter applicationFilter = (dependencies,
@@ -613,4 +613,26 @@ public class VaadinSessionTest {
                                 + "java.lang.IllegalStateException: Cannot access state in VaadinSession or UI without locking the session.\n"
                                 + "\tat com.vaadin.flow.server.SessionLockCheckStrategy$2.checkHasLock(SessionLockCheckStrategy.java:"));
     }
+
+    @Test
+    public void hasChangesSinceCheckpoint_uiOrAttributeChanged_changesReported() {
+        session.lock();
+        try {
+            Assert.assertTrue(session.hasChangesSinceCheckpoint());
+
+            session.clearChangesSinceCheckpoint();
+            Assert.assertFalse(session.hasChangesSinceCheckpoint());
+
+            ui.getElement().setProperty("foo", "bar");
+            Assert.assertTrue(session.hasChangesSinceCheckpoint());
+
+            session.clearChangesSinceCheckpoint();
+            Assert.assertFalse(session.hasChangesSinceCheckpoint());
+
+            session.setAttribute("foo", "bar");
+            Assert.assertTrue(session.hasChangesSinceCheckpoint());
+        } finally {
+            session.unlock();
+        }
+    }
 }
@@ -15,8 +15,11 @@
  */
 package com.vaadin.flow.server;
 
+import java.lang.reflect.Field;
+
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 public class WebBrowserTest {
 
@@ -56,4 +59,30 @@ public class WebBrowserTest {
     public void isChromeOS_noDetails_returnsFalse() {
         Assert.assertFalse(browser.isChromeOS());
     }
+
+    @Test
+    public void sameUserAgent_browserDetailsShared() throws Exception {
+        String firefox = "Mozilla/5.0 (X11; Linux x86_64; rv:109.0) Gecko/20100101 Firefox/115.0";
+        String chrome = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+        WebBrowser first = new WebBrowser(mockRequest(firefox));
+        WebBrowser second = new WebBrowser(mockRequest(firefox));
+        WebBrowser other = new WebBrowser(mockRequest(chrome));
+
+        Assert.assertTrue(second.isFirefox());
+        Assert.assertTrue(second.isLinux());
+        Assert.assertTrue(other.isChrome());
+        Assert.assertTrue(other.isWindows());
+
+        Field details = WebBrowser.class.getDeclaredField("browserDetails");
+        details.setAccessible(true);
+        Assert.assertSame(details.get(first), details.get(second));
+        Assert.assertNotSame(details.get(first), details.get(other));
+    }
+
+    private static VaadinRequest mockRequest(String userAgent) {
+        VaadinRequest request = Mockito.mock(VaadinRequest.class);
+        Mockito.when(request.getHeader("User-Agent")).thenReturn(userAgent);
+        return request;
+    }
 }
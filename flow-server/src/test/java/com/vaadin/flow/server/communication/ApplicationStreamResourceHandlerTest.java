@@ -0,0 +1,233 @@
+/*
+ * Copyright 2000-2024 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import jakarta.servlet.ServletContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.server.ApplicationStreamResourceRegistry;
+import com.vaadin.flow.server.HttpStatusCode;
+import com.vaadin.flow.server.InitParameters;
+import com.vaadin.flow.server.MockServletContext;
+import com.vaadin.flow.server.MockVaadinContext;
+import com.vaadin.flow.server.StreamRegistration;
+import com.vaadin.flow.server.StreamResource;
+import com.vaadin.flow.server.StreamResourceWriter;
+import com.vaadin.flow.server.VaadinResponse;
+import com.vaadin.flow.server.VaadinServletService;
+import com.vaadin.flow.server.VaadinServletRequest;
+import com.vaadin.flow.server.VaadinSession;
+
+public class ApplicationStreamResourceHandlerTest {
+
+    private ApplicationStreamResourceHandler handler = new ApplicationStreamResourceHandler();
+    private ApplicationStreamResourceRegistry registry;
+    private VaadinServletRequest request;
+    private VaadinResponse response;
+    private ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @Before
+    public void setUp() throws IOException {
+        MockVaadinContext context = new MockVaadinContext();
+        registry = ApplicationStreamResourceRegistry.getInstance(context);
+
+        VaadinServletService service = Mockito
+                .mock(VaadinServletService.class);
+        Mockito.when(service.getContext()).thenReturn(context);
+
+        request = Mockito.mock(VaadinServletRequest.class);
+        Mockito.when(request.getService()).thenReturn(service);
+        Mockito.when(request.getServletContext())
+                .thenReturn(Mockito.mock(ServletContext.class));
+        response = Mockito.mock(VaadinResponse.class);
+        Mockito.when(response.getOutputStream()).thenReturn(output);
+    }
+
+    @Test
+    public void getInstance_sameContext_sameRegistryReturned() {
+        MockVaadinContext context = new MockVaadinContext();
+        Assert.assertSame(
+                ApplicationStreamResourceRegistry.getInstance(context),
+                ApplicationStreamResourceRegistry.getInstance(context));
+    }
+
+    @Test
+    public void configuredSecret_uriAcceptedByAnotherRegistry() {
+        ApplicationStreamResourceRegistry issuing = ApplicationStreamResourceRegistry
+                .getInstance(createContext("secret"));
+        ApplicationStreamResourceRegistry accepting = ApplicationStreamResourceRegistry
+                .getInstance(createContext("secret"));
+        Assert.assertNotSame(issuing, accepting);
+
+        StreamResource resource = new StreamResource("readme.md",
+                () -> new ByteArrayInputStream(new byte[0]));
+        issuing.registerResource(resource);
+        accepting.registerResource(resource);
+
+        String[] parts = getSignedParts(issuing.getURI(resource));
+        Assert.assertSame(resource,
+                accepting.getResource(parts[0], parts[1], "readme.md")
+                        .orElse(null));
+    }
+
+    @Test
+    public void noConfiguredSecret_uriRejectedByAnotherRegistry() {
+        ApplicationStreamResourceRegistry issuing = ApplicationStreamResourceRegistry
+                .getInstance(createContext(null));
+        ApplicationStreamResourceRegistry accepting = ApplicationStreamResourceRegistry
+                .getInstance(createContext(null));
+
+        StreamResource resource = new StreamResource("readme.md",
+                () -> new ByteArrayInputStream(new byte[0]));
+        issuing.registerResource(resource);
+        accepting.registerResource(resource);
+
+        String[] parts = getSignedParts(issuing.getURI(resource));
+        Assert.assertTrue(issuing
+                .getResource(parts[0], parts[1], "readme.md").isPresent());
+        Assert.assertFalse(accepting
+                .getResource(parts[0], parts[1], "readme.md").isPresent());
+    }
+
+    @Test
+    public void registeredResource_resourceWrittenWithoutSession()
+            throws IOException {
+        AtomicReference<VaadinSession> writerSession = new AtomicReference<>(
+                Mockito.mock(VaadinSession.class));
+        StreamResource resource = new StreamResource("file name.txt",
+                (StreamResourceWriter) (stream, session) -> {
+                    writerSession.set(session);
+                    stream.write("content".getBytes(StandardCharsets.UTF_8));
+                });
+        StreamRegistration registration = registry.registerResource(resource);
+        Assert.assertSame(resource, registration.getResource());
+
+        setPath(registration);
+        Assert.assertTrue(handler.handleRequest(request, response));
+
+        Assert.assertEquals("content",
+                output.toString(StandardCharsets.UTF_8));
+        Assert.assertNull(writerSession.get());
+    }
+
+    @Test
+    public void resourceWithCacheTime_publicCacheControlHeaderIsWritten()
+            throws IOException {
+        StreamResource resource = new StreamResource("readme.md",
+                () -> new ByteArrayInputStream(new byte[0]));
+        resource.setCacheTime(60000);
+        setPath(registry.registerResource(resource));
+
+        handler.handleRequest(request, response);
+
+        Mockito.verify(response).setCacheTime(60000);
+        Mockito.verify(response).setHeader("Cache-Control",
+                "public, max-age=60");
+    }
+
+    @Test
+    public void resourceWithoutCacheTime_publicCacheControlHeaderNotWritten()
+            throws IOException {
+        StreamResource resource = new StreamResource("readme.md",
+                () -> new ByteArrayInputStream(new byte[0]));
+        setPath(registry.registerResource(resource));
+
+        handler.handleRequest(request, response);
+
+        Mockito.verify(response).setCacheTime(0);
+        Mockito.verify(response, Mockito.never()).setHeader(
+                Mockito.eq("Cache-Control"),
+                Mockito.startsWith("public"));
+    }
+
+    @Test
+    public void invalidSignature_resourceNotFound() throws IOException {
+        StreamResource resource = new StreamResource("readme.md",
+                () -> new ByteArrayInputStream(new byte[0]));
+        registry.registerResource(resource);
+
+        Mockito.when(request.getPathInfo())
+                .thenReturn("/" + ApplicationStreamResourceHandler
+                        .generateURI("readme.md", resource.getId(), "forged"));
+        Assert.assertTrue(handler.handleRequest(request, response));
+
+        Mockito.verify(response).sendError(
+                Mockito.eq(HttpStatusCode.NOT_FOUND.getCode()),
+                Mockito.anyString());
+        Assert.assertEquals(0, output.size());
+    }
+
+    @Test
+    public void unregisteredResource_resourceNotFound() throws IOException {
+        StreamResource resource = new StreamResource("readme.md",
+                () -> new ByteArrayInputStream(new byte[0]));
+        StreamRegistration registration = registry.registerResource(resource);
+        registration.unregister();
+        Assert.assertNull(registration.getResource());
+
+        setPath(registration);
+        Assert.assertTrue(handler.handleRequest(request, response));
+
+        Mockito.verify(response).sendError(
+                Mockito.eq(HttpStatusCode.NOT_FOUND.getCode()),
+                Mockito.anyString());
+    }
+
+    @Test
+    public void otherPath_requestNotHandled() throws IOException {
+        Mockito.when(request.getPathInfo()).thenReturn(
+                "/" + StreamRequestHandler.DYN_RES_PREFIX + "1/id/readme.md");
+        Assert.assertFalse(handler.handleRequest(request, response));
+
+        Mockito.when(request.getPathInfo()).thenReturn(null);
+        Assert.assertFalse(handler.handleRequest(request, response));
+    }
+
+    private static MockVaadinContext createContext(String secret) {
+        return new MockVaadinContext(new MockServletContext() {
+            @Override
+            public String getInitParameter(String name) {
+                return InitParameters.APPLICATION_STREAM_RESOURCE_SECRET
+                        .equals(name) ? secret : null;
+            }
+        });
+    }
+
+    private static String[] getSignedParts(URI uri) {
+        // [0] id, [1] signature, [2] name
+        return uri.getPath()
+                .substring(ApplicationStreamResourceHandler.APP_RES_PREFIX
+                        .length())
+                .split("/", 3);
+    }
+
+    private void setPath(StreamRegistration registration) {
+        // Servlet containers provide a decoded path info
+        String path = "/" + registration.getResourceUri().getPath();
+        Mockito.when(request.getPathInfo()).thenReturn(path);
+    }
+}
@@ -16,7 +16,10 @@
 package com.vaadin.flow.server.communication;
 
 import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.ReentrantLock;
 
+import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
 
@@ -26,6 +29,7 @@ import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinResponse;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.shared.ApplicationConstants;
 
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
@@ -54,4 +58,105 @@ public class HeartbeatHandlerTest {
         Mockito.verify(ui.getInternals(), times(1))
                 .setLastHeartbeatTimestamp(anyLong());
     }
+
+    @Test
+    public void handleRequest_noHeartbeatListeners_sessionNotLocked()
+            throws IOException {
+        VaadinSession session = mock(VaadinSession.class);
+        VaadinRequest request = mockHeartbeatRequest();
+        VaadinResponse response = mock(VaadinResponse.class);
+        UI ui = mock(UI.class);
+        UIInternals uiInternals = mock(UIInternals.class);
+
+        when(ui.getInternals()).thenReturn(uiInternals);
+        when(session.getUIByIdWithoutLock(1)).thenReturn(ui);
+
+        HeartbeatHandler handler = new HeartbeatHandler();
+        Assert.assertTrue(handler.handleRequest(session, request, response));
+
+        Mockito.verify(uiInternals, times(1))
+                .setLastHeartbeatTimestampWithoutLock(anyLong());
+        Mockito.verify(uiInternals, Mockito.never())
+                .setLastHeartbeatTimestamp(anyLong());
+        Mockito.verify(request).setAttribute(
+                HeartbeatHandler.HANDLED_WITHOUT_LOCK_ATTRIBUTE, Boolean.TRUE);
+        Mockito.verify(session, Mockito.never()).lock();
+        Assert.assertEquals(1, handler.getHandledWithoutLockCount());
+        Assert.assertEquals(0, handler.getHandledWithLockCount());
+    }
+
+    @Test
+    public void handleRequest_sessionLockedElsewhere_contentionCounted()
+            throws Exception {
+        VaadinSession session = mock(VaadinSession.class);
+        VaadinRequest request = mockHeartbeatRequest();
+        UI ui = mock(UI.class);
+        when(ui.getInternals()).thenReturn(mock(UIInternals.class));
+        when(session.getUIByIdWithoutLock(1)).thenReturn(ui);
+        ReentrantLock lock = new ReentrantLock();
+        when(session.getLockInstance()).thenReturn(lock);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread other = new Thread(() -> {
+            lock.lock();
+            try {
+                locked.countDown();
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+            }
+        });
+        other.start();
+        HeartbeatHandler handler = new HeartbeatHandler();
+        try {
+            locked.await();
+            Assert.assertTrue(handler.handleRequest(session, request,
+                    mock(VaadinResponse.class)));
+        } finally {
+            release.countDown();
+            other.join();
+        }
+
+        Assert.assertEquals(1, handler.getHandledWithoutLockCount());
+        Assert.assertEquals(1, handler.getContendedWithoutLockCount());
+        Assert.assertEquals(0, handler.getLockWaitNanos());
+    }
+
+    @Test
+    public void handleRequest_heartbeatListeners_sessionLocked()
+            throws IOException {
+        VaadinService service = mock(VaadinService.class);
+        VaadinSession session = mock(VaadinSession.class);
+        VaadinRequest request = mockHeartbeatRequest();
+        VaadinResponse response = mock(VaadinResponse.class);
+        UI ui = mock(UI.class);
+        UIInternals uiInternals = mock(UIInternals.class);
+
+        when(ui.getInternals()).thenReturn(uiInternals);
+        when(uiInternals.hasHeartbeatListeners()).thenReturn(true);
+        when(session.getUIByIdWithoutLock(1)).thenReturn(ui);
+        when(session.getService()).thenReturn(service);
+        when(service.findUI(request)).thenReturn(ui);
+
+        HeartbeatHandler handler = new HeartbeatHandler();
+        Assert.assertTrue(handler.handleRequest(session, request, response));
+
+        Mockito.verify(uiInternals, times(1))
+                .setLastHeartbeatTimestamp(anyLong());
+        Mockito.verify(session, times(1)).lock();
+        Assert.assertEquals(0, handler.getHandledWithoutLockCount());
+        Assert.assertEquals(1, handler.getHandledWithLockCount());
+    }
+
+    private static VaadinRequest mockHeartbeatRequest() {
+        VaadinRequest request = mock(VaadinRequest.class);
+        when(request.getParameter(ApplicationConstants.REQUEST_TYPE_PARAMETER))
+                .thenReturn(ApplicationConstants.REQUEST_TYPE_HEARTBEAT);
+        when(request.getParameter(ApplicationConstants.UI_ID_PARAMETER))
+                .thenReturn("1");
+        return request;
+    }
 }
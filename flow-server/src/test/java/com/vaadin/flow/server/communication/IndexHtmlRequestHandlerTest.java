@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -53,6 +54,7 @@ import com.vaadin.flow.component.page.AppShellConfigurator;
 import com.vaadin.flow.di.Lookup;
 import com.vaadin.flow.di.ResourceProvider;
 import com.vaadin.flow.internal.UsageStatistics;
+import com.vaadin.flow.router.NavigationTrace;
 import com.vaadin.flow.router.QueryParameters;
 import com.vaadin.flow.server.AppShellRegistry;
 import com.vaadin.flow.server.BootstrapHandler;
@@ -423,6 +425,38 @@ public class IndexHtmlRequestHandlerTest {
         Assert.assertNull(UI.getCurrent());
     }
 
+    @Test
+    public void eagerServerLoad_navigationTraced_traceDeliveredWithInitialUidl()
+            throws IOException {
+        deploymentConfiguration.setEagerServerLoad(true);
+        List<NavigationTrace> traces = new ArrayList<>();
+        service.addNavigationTraceListener(traces::add);
+
+        indexHtmlRequestHandler.synchronizedHandleRequest(session,
+                createVaadinRequest("/"), response);
+
+        Assert.assertEquals("Trace should be delivered by the bootstrap request",
+                1, traces.size());
+
+        String indexHtml = responseOutput.toString(StandardCharsets.UTF_8);
+        Elements scripts = Jsoup.parse(indexHtml).head()
+                .getElementsByTag("script");
+        String scriptContent = findScript(scripts, INITIAL_UIDL_SEARCH_STRING)
+                .childNode(0).toString();
+        String initialJson = scriptContent.substring(
+                scriptContent.indexOf(INITIAL_UIDL_SEARCH_STRING)
+                        + INITIAL_UIDL_SEARCH_STRING.length(),
+                scriptContent.lastIndexOf(';'));
+        String uidl = Json.parse(initialJson).getObject("initial")
+                .getObject("appConfig").getObject("uidl").toJson();
+        Assert.assertEquals(uidl.getBytes(StandardCharsets.UTF_8).length,
+                traces.get(0).getUidlSize());
+
+        UI.getCurrent().getInternals().fireCompletedNavigationTraces("{}");
+        Assert.assertEquals("Trace should be delivered only once", 1,
+                traces.size());
+    }
+
     @Test
     public void should_getter_UI_return_not_empty_when_includeInitialBootstrapUidl()
             throws IOException {
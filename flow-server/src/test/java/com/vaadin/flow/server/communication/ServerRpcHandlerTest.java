@@ -3,12 +3,14 @@ package com.vaadin.flow.server.communication;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.time.Duration;
 
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import com.vaadin.flow.component.UI;
@@ -17,6 +19,7 @@ import com.vaadin.flow.component.internal.UIInternals;
 import com.vaadin.flow.function.DeploymentConfiguration;
 import com.vaadin.flow.internal.MessageDigestUtil;
 import com.vaadin.flow.internal.StateTree;
+import com.vaadin.flow.server.ClientTiming;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
@@ -94,6 +97,63 @@ public class ServerRpcHandlerTest {
         Mockito.verify(dependencyList).clearPendingSendToClient();
     }
 
+    @Test
+    public void handleRpc_clientTimingReported_timingFiredToListeners()
+            throws IOException,
+            ServerRpcHandler.InvalidUIDLSecurityKeyException {
+        Mockito.when(service.hasClientTimingListeners()).thenReturn(true);
+        StringReader reader = new StringReader("{\"csrfToken\": \""
+                + csrfToken + "\", \"rpc\":[], \"clientId\":1, \""
+                + ApplicationConstants.CLIENT_TIMING
+                + "\": {\"syncId\": 4, \"processing\": 30, "
+                + "\"changes\": 12, \"flush\": 15}}");
+
+        serverRpcHandler.handleRpc(ui, reader, request);
+
+        ArgumentCaptor<ClientTiming> captor = ArgumentCaptor
+                .forClass(ClientTiming.class);
+        Mockito.verify(service).fireClientTimingListeners(captor.capture());
+        ClientTiming timing = captor.getValue();
+        Assert.assertSame(ui, timing.getUI());
+        Assert.assertEquals(4, timing.getSyncId());
+        Assert.assertEquals(Duration.ofMillis(30), timing.getProcessingTime());
+        Assert.assertEquals(Duration.ofMillis(12), timing.getChangesTime());
+        Assert.assertEquals(Duration.ofMillis(15), timing.getFlushTime());
+    }
+
+    @Test
+    public void handleRpc_clientTimingWithoutListeners_timingNotFired()
+            throws IOException,
+            ServerRpcHandler.InvalidUIDLSecurityKeyException {
+        StringReader reader = new StringReader("{\"csrfToken\": \""
+                + csrfToken + "\", \"rpc\":[], \"clientId\":1, \""
+                + ApplicationConstants.CLIENT_TIMING
+                + "\": {\"syncId\": 4, \"processing\": 30, "
+                + "\"changes\": 12, \"flush\": 15}}");
+
+        serverRpcHandler.handleRpc(ui, reader, request);
+
+        Mockito.verify(service, Mockito.never())
+                .fireClientTimingListeners(Mockito.any());
+    }
+
+    @Test
+    public void handleRpc_malformedClientTiming_timingIgnored()
+            throws IOException,
+            ServerRpcHandler.InvalidUIDLSecurityKeyException {
+        Mockito.when(service.hasClientTimingListeners()).thenReturn(true);
+        StringReader reader = new StringReader("{\"csrfToken\": \""
+                + csrfToken + "\", \"rpc\":[], \"clientId\":1, \""
+                + ApplicationConstants.CLIENT_TIMING
+                + "\": {\"syncId\": 4, \"processing\": \"30\", "
+                + "\"changes\": 12}}");
+
+        serverRpcHandler.handleRpc(ui, reader, request);
+
+        Mockito.verify(service, Mockito.never())
+                .fireClientTimingListeners(Mockito.any());
+    }
+
     @Test
     public void handleRpc_duplicateMessage_doNotThrow()
             throws InvalidUIDLSecurityKeyException, IOException {
@@ -47,6 +47,9 @@ import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.dom.ElementFactory;
 import com.vaadin.flow.internal.JsonUtils;
 import com.vaadin.flow.internal.StateTree;
+import com.vaadin.flow.router.Location;
+import com.vaadin.flow.router.NavigationTrace;
+import com.vaadin.flow.router.NavigationTrigger;
 import com.vaadin.flow.router.ParentLayout;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.router.RouteConfiguration;
@@ -59,6 +62,7 @@ import com.vaadin.flow.server.VaadinServletRequest;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.server.frontend.BundleUtils;
 import com.vaadin.flow.shared.ApplicationConstants;
+import com.vaadin.flow.shared.JsonConstants;
 import com.vaadin.flow.shared.ui.Dependency;
 import com.vaadin.flow.shared.ui.LoadMode;
 
@@ -199,6 +203,58 @@ public class UidlWriterTest {
         assertTrue(JsonUtils.jsonEquals(expectedJson, json));
     }
 
+    @Test
+    public void createUidl_sameScriptExecutedAgain_scriptSentThroughConstantPool()
+            throws Exception {
+        UI ui = initializeUIForDependenciesTest(new TestUI());
+        UidlWriter uidlWriter = new UidlWriter();
+        uidlWriter.createUidl(ui, false);
+        String script = "console.log($0);".repeat(10);
+
+        ui.getPage().executeJs(script, "first");
+        JsonObject response = uidlWriter.createUidl(ui, false);
+        JsonArray invocation = response
+                .getArray(JsonConstants.UIDL_KEY_EXECUTE).getArray(0);
+        assertEquals(script, invocation.getString(1));
+        assertFalse(response.hasKey("constants"));
+
+        ui.getPage().executeJs(script, "second");
+        response = uidlWriter.createUidl(ui, false);
+        invocation = response.getArray(JsonConstants.UIDL_KEY_EXECUTE)
+                .getArray(0);
+        assertEquals("second", invocation.getString(0));
+        String scriptId = invocation.getObject(1)
+                .getString(JsonConstants.UIDL_KEY_EXECUTE_SCRIPT_ID);
+        assertEquals(script,
+                response.getObject("constants").getString(scriptId));
+
+        ui.getPage().executeJs(script, "third");
+        response = uidlWriter.createUidl(ui, false);
+        invocation = response.getArray(JsonConstants.UIDL_KEY_EXECUTE)
+                .getArray(0);
+        assertEquals(scriptId, invocation.getObject(1)
+                .getString(JsonConstants.UIDL_KEY_EXECUTE_SCRIPT_ID));
+        assertFalse(response.hasKey("constants"));
+    }
+
+    @Test
+    public void createUidl_shortScriptExecutedAgain_scriptSentAsText()
+            throws Exception {
+        UI ui = initializeUIForDependenciesTest(new TestUI());
+        UidlWriter uidlWriter = new UidlWriter();
+        uidlWriter.createUidl(ui, false);
+
+        ui.getPage().executeJs("console.log($0)", "first");
+        uidlWriter.createUidl(ui, false);
+        ui.getPage().executeJs("console.log($0)", "second");
+        JsonObject response = uidlWriter.createUidl(ui, false);
+
+        JsonArray invocation = response
+                .getArray(JsonConstants.UIDL_KEY_EXECUTE).getArray(0);
+        assertEquals("console.log($0)", invocation.getString(1));
+        assertFalse(response.hasKey("constants"));
+    }
+
     @Test
     public void componentDependencies_npmMode() throws Exception {
         UI ui = initializeUIForDependenciesTest(new TestUI());
@@ -410,6 +466,49 @@ public class UidlWriterTest {
                 .valueOf(inlineDependency.getString(Dependency.KEY_TYPE)));
     }
 
+    @Test
+    public void createUidl_clientTimingListenerRegistered_clientTimingRequested()
+            throws Exception {
+        UI ui = initializeUIForDependenciesTest(new TestUI());
+        UidlWriter uidlWriter = new UidlWriter();
+
+        JsonObject response = uidlWriter.createUidl(ui, false);
+        assertFalse(response.hasKey(ApplicationConstants.CLIENT_TIMING));
+
+        mocks.getService().addClientTimingListener(timing -> {
+        });
+        response = uidlWriter.createUidl(ui, false);
+        assertTrue(response.getBoolean(ApplicationConstants.CLIENT_TIMING));
+    }
+
+    @Test
+    public void responseWritten_navigationTraced_traceFiredWithResponseSize()
+            throws Exception {
+        UI ui = initializeUIForDependenciesTest(new TestUI());
+        UidlWriter uidlWriter = new UidlWriter();
+        uidlWriter.createUidl(ui, false);
+
+        List<NavigationTrace> traces = new ArrayList<>();
+        mocks.getService().addNavigationTraceListener(traces::add);
+
+        // Recreate the route target and its parent layouts
+        ui.getInternals().getRouter().navigate(ui, new Location(""),
+                NavigationTrigger.PROGRAMMATIC, null, true, true);
+        String response = uidlWriter.createUidl(ui, false).toJson() + "\u00e4";
+        assertTrue("Trace should be fired only when the response is written",
+                traces.isEmpty());
+
+        ui.getInternals().fireCompletedNavigationTraces(response);
+        assertEquals(1, traces.size());
+        NavigationTrace trace = traces.get(0);
+        assertEquals(BaseClass.class, trace.getNavigationTarget());
+        assertEquals(3, trace.getCreatedComponents());
+        assertEquals(response.length() + 1, trace.getUidlSize());
+
+        ui.getInternals().fireCompletedNavigationTraces(response);
+        assertEquals("Trace should be fired only once", 1, traces.size());
+    }
+
     private UI initializeUIForDependenciesTest(UI ui) throws Exception {
         mocks = new MockServletServiceSessionSetup();
 
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2000-2024 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.frontend;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+public class FrontendFileHashCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Options options;
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        options = Mockito.mock(Options.class);
+        Mockito.when(options.getBuildDirectory())
+                .thenReturn(temporaryFolder.newFolder("target"));
+        file = temporaryFolder.newFile("view.ts");
+        Files.writeString(file.toPath(), "export class View {}");
+        file.setLastModified(System.currentTimeMillis() - 60000);
+    }
+
+    @Test
+    public void getHash_hashMatchesContentHash() throws IOException {
+        FrontendFileHashCache cache = FrontendFileHashCache.load(options);
+        Assert.assertEquals(
+                BundleValidationUtil.calculateHash("export class View {}"),
+                cache.getHash(file));
+    }
+
+    @Test
+    public void getHash_savedAndFileUnchanged_cachedHashUsed()
+            throws IOException {
+        FrontendFileHashCache cache = FrontendFileHashCache.load(options);
+        String hash = cache.getHash(file);
+        cache.save(true);
+        Assert.assertTrue(new File(options.getBuildDirectory(),
+                FrontendFileHashCache.CACHE_FILE).exists());
+
+        // Same size and modification time, content is not read again
+        long lastModified = file.lastModified();
+        Files.writeString(file.toPath(), "export class Wiew {}");
+        file.setLastModified(lastModified);
+
+        Assert.assertEquals(hash,
+                FrontendFileHashCache.load(options).getHash(file));
+    }
+
+    @Test
+    public void getHash_fileModified_hashRecalculated() throws IOException {
+        FrontendFileHashCache cache = FrontendFileHashCache.load(options);
+        cache.getHash(file);
+        cache.save(true);
+
+        Files.writeString(file.toPath(), "export class View2 {}");
+        file.setLastModified(System.currentTimeMillis() - 30000);
+
+        Assert.assertEquals(
+                BundleValidationUtil.calculateHash("export class View2 {}"),
+                FrontendFileHashCache.load(options).getHash(file));
+    }
+
+    @Test
+    public void getHash_recentlyModifiedFile_hashNotCached()
+            throws IOException {
+        file.setLastModified(System.currentTimeMillis());
+        FrontendFileHashCache cache = FrontendFileHashCache.load(options);
+        cache.getHash(file);
+        cache.save(true);
+
+        Assert.assertFalse(new File(options.getBuildDirectory(),
+                FrontendFileHashCache.CACHE_FILE).exists());
+    }
+
+    @Test
+    public void load_brokenCacheFile_emptyCacheUsed() throws IOException {
+        Files.writeString(new File(options.getBuildDirectory(),
+                FrontendFileHashCache.CACHE_FILE).toPath(), "{broken");
+
+        Assert.assertEquals(
+                BundleValidationUtil.calculateHash("export class View {}"),
+                FrontendFileHashCache.load(options).getHash(file));
+    }
+
+    @Test
+    public void save_fileNotRequested_hashRemoved() throws IOException {
+        File other = temporaryFolder.newFile("other.ts");
+        Files.writeString(other.toPath(), "export class Other {}");
+        other.setLastModified(System.currentTimeMillis() - 60000);
+
+        FrontendFileHashCache cache = FrontendFileHashCache.load(options);
+        cache.getHash(file);
+        cache.getHash(other);
+        cache.save(true);
+
+        // Only the first file is still imported
+        cache = FrontendFileHashCache.load(options);
+        cache.getHash(file);
+        cache.save(true);
+
+        String content = Files.readString(new File(
+                options.getBuildDirectory(), FrontendFileHashCache.CACHE_FILE)
+                .toPath());
+        Assert.assertTrue(content.contains(file.getName()));
+        Assert.assertFalse(content.contains(other.getName()));
+    }
+
+    @Test
+    public void save_notPruned_hashOfNotRequestedFileKept()
+            throws IOException {
+        File other = temporaryFolder.newFile("other.ts");
+        Files.writeString(other.toPath(), "export class Other {}");
+        other.setLastModified(System.currentTimeMillis() - 60000);
+
+        FrontendFileHashCache cache = FrontendFileHashCache.load(options);
+        cache.getHash(file);
+        cache.getHash(other);
+        cache.save(true);
+
+        // Validation stopped before reaching the second file
+        cache = FrontendFileHashCache.load(options);
+        cache.getHash(file);
+        cache.save(false);
+
+        String content = Files.readString(new File(
+                options.getBuildDirectory(), FrontendFileHashCache.CACHE_FILE)
+                .toPath());
+        Assert.assertTrue(content.contains(file.getName()));
+        Assert.assertTrue(content.contains(other.getName()));
+    }
+}
@@ -21,7 +21,9 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.jar.JarFile;
@@ -498,6 +500,34 @@ public class JarContentsManagerTest {
                         .collect(Collectors.joining("")));
     }
 
+    @Test
+    public void copyIncludedFilesFromJar_severalDirectories_sameResultAsSeparateCopies()
+            throws IOException {
+        File separateOutput = testDirectory.newFolder("separate");
+        Set<String> separateFiles = new HashSet<>();
+        separateFiles.addAll(
+                jarContentsManager.copyIncludedFilesFromJarTrimmingBasePath(
+                        testJar, "META-INF/maven", separateOutput, "**/*.xml"));
+        separateFiles.addAll(
+                jarContentsManager.copyIncludedFilesFromJarTrimmingBasePath(
+                        testJar, "META-INF", separateOutput,
+                        "**/*.properties"));
+
+        File combinedOutput = testDirectory.newFolder("combined");
+        Map<String, String[]> inclusions = new LinkedHashMap<>();
+        inclusions.put("META-INF/maven", new String[] { "**/*.xml" });
+        inclusions.put("META-INF", new String[] { "**/*.properties" });
+        Set<String> combinedFiles = jarContentsManager
+                .copyIncludedFilesFromJarTrimmingBasePath(testJar,
+                        combinedOutput, inclusions);
+
+        assertThat("Expect files to be copied", combinedFiles.size(),
+                is(not(0)));
+        assertEquals(separateFiles, combinedFiles);
+        assertEquals(TestUtils.listFilesRecursively(separateOutput),
+                TestUtils.listFilesRecursively(combinedOutput));
+    }
+
     private File copyFilesFromJar(File outputDirectory, String jarDirectory,
             File testJar) {
         List<String> originalFiles = listFilesInJar(testJar, jarDirectory);
@@ -9,7 +9,9 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.io.file.AccumulatorPathVisitor;
@@ -109,6 +111,28 @@ public class NodeTasksExecutionTest {
                 .newFile(FeatureFlags.PROPERTIES_FILENAME).toPath(), contents);
     }
 
+    @Test
+    public void timingReport_sameTaskTypeTwice_reportedPerCommand() {
+        Map<FallibleCommand, Long> timings = new LinkedHashMap<>();
+        timings.put(new TimedCommand(), 2_000_000L);
+        timings.put(new TimedCommand(), 3_000_000L);
+
+        String[] lines = NodeTasks.getTimingReport(timings)
+                .split(System.lineSeparator());
+
+        Assert.assertEquals(4, lines.length);
+        Assert.assertEquals("Task execution times:", lines[0]);
+        Assert.assertTrue(lines[1].matches("\\s+TimedCommand\\s+2 ms"));
+        Assert.assertTrue(lines[2].matches("\\s+TimedCommand\\s+3 ms"));
+        Assert.assertTrue(lines[3].matches("\\s+Total\\s+5 ms"));
+    }
+
+    private static class TimedCommand implements FallibleCommand {
+        @Override
+        public void execute() {
+        }
+    }
+
     @Test
     public void nodeTasks_notExecutedInParallel() throws Exception {
         List<String> result = new ArrayList<>();
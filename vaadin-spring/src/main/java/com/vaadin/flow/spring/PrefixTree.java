@@ -16,12 +16,14 @@
 package com.vaadin.flow.spring;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Quick prefix lookup for package inclusion and exclusion lists.
+ * <p>
+ * The children of each node are kept in sorted arrays, so a lookup does not
+ * box characters or hash them.
  */
 class PrefixTree implements Serializable {
 
@@ -37,7 +39,10 @@ class PrefixTree implements Serializable {
         if (prefix.isEmpty()) {
             throw new IllegalArgumentException("empty prefix");
         }
-        root.addPrefix(prefix);
+        Node node = root;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = node.addChild(prefix.charAt(i));
+        }
     }
 
     boolean hasPrefix(String s) {
@@ -48,7 +53,7 @@ class PrefixTree implements Serializable {
             if (node.terminal) {
                 return true;
             } else if (sidx < slen) {
-                node = node.children.get(s.charAt(sidx++));
+                node = node.getChild(s.charAt(sidx++));
             } else {
                 return false;
             }
@@ -57,16 +62,42 @@ class PrefixTree implements Serializable {
     }
 
     static class Node implements Serializable {
-        private final Map<Character, Node> children = new HashMap<>();
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        // Sorted, children[i] is the child for keys[i]
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
         private boolean terminal = true;
 
-        void addPrefix(String prefix) {
+        Node getChild(char ch) {
+            int index = Arrays.binarySearch(keys, ch);
+            return index < 0 ? null : children[index];
+        }
+
+        Node addChild(char ch) {
             terminal = false;
-            char ch = prefix.charAt(0);
-            children.putIfAbsent(ch, new Node());
-            if (prefix.length() > 1) {
-                children.get(ch).addPrefix(prefix.substring(1));
+            int index = Arrays.binarySearch(keys, ch);
+            if (index >= 0) {
+                return children[index];
             }
+            int insertAt = -index - 1;
+            Node child = new Node();
+
+            char[] newKeys = new char[keys.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            newKeys[insertAt] = ch;
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1,
+                    keys.length - insertAt);
+            keys = newKeys;
+
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newChildren[insertAt] = child;
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1,
+                    children.length - insertAt);
+            children = newChildren;
+            return child;
         }
     }
 }
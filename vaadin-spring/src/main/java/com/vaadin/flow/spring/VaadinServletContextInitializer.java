@@ -37,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -57,6 +58,8 @@ import org.springframework.core.env.Environment;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.core.type.filter.AssignableTypeFilter;
 
@@ -108,6 +111,12 @@ public class VaadinServletContextInitializer
     private ApplicationContext appContext;
     private ResourceLoader customLoader;
 
+    /**
+     * Class metadata read by the scanners. Shared by all scans done during
+     * context initialization so that each class file is parsed only once.
+     */
+    private final Map<ResourceLoader, CachingMetadataReaderFactory> metadataReaderFactories = new ConcurrentHashMap<>();
+
     /**
      * Packages that should be excluded when scanning all packages.
      */
@@ -162,10 +171,12 @@ public class VaadinServletContextInitializer
             extends ClassPathScanningCandidateComponentProvider {
         private ClassPathScanner(Environment environment,
                 ResourceLoader resourceLoader,
+                MetadataReaderFactory metadataReaderFactory,
                 Collection<Class<? extends Annotation>> annotations,
                 Collection<Class<?>> types) {
             super(false, environment);
             setResourceLoader(resourceLoader);
+            setMetadataReaderFactory(metadataReaderFactory);
 
             annotations.stream().map(AnnotationTypeFilter::new)
                     .forEach(this::addIncludeFilter);
@@ -804,6 +815,13 @@ public class VaadinServletContextInitializer
                     .addListener(new WebComponentServletContextListener());
         }
 
+        // Scanning is done, release the cached class metadata
+        compositeListener.addListener(event -> {
+            metadataReaderFactories.values()
+                    .forEach(CachingMetadataReaderFactory::clearCache);
+            metadataReaderFactories.clear();
+        });
+
         return compositeListener;
     }
 
@@ -834,11 +852,26 @@ public class VaadinServletContextInitializer
             Collection<Class<? extends Annotation>> annotations,
             Collection<Class<?>> types) {
         ClassPathScanner scanner = new ClassPathScanner(
-                appContext.getEnvironment(), loader, annotations, types);
+                appContext.getEnvironment(), loader,
+                metadataReaderFactories.computeIfAbsent(loader,
+                        this::createMetadataReaderFactory),
+                annotations, types);
         return packages.stream().map(scanner::findCandidateComponents)
                 .flatMap(Collection::stream).map(this::getBeanClass);
     }
 
+    private CachingMetadataReaderFactory createMetadataReaderFactory(
+            ResourceLoader loader) {
+        CachingMetadataReaderFactory factory = new CachingMetadataReaderFactory(
+                loader);
+        // The default limit of 256 entries is far below the number of
+        // scanned classes, which would make every scan parse the classes
+        // again. The cache is unbounded only during startup: it is cleared
+        // once all the scans are done.
+        factory.setCacheLimit(Integer.MAX_VALUE);
+        return factory;
+    }
+
     private Class<?> getBeanClass(BeanDefinition beanDefinition) {
         AbstractBeanDefinition definition = (AbstractBeanDefinition) beanDefinition;
         Class<?> beanClass;
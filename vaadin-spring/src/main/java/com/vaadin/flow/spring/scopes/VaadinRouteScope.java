@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import org.slf4j.LoggerFactory;
@@ -306,6 +307,13 @@ public class VaadinRouteScope extends AbstractScope implements UIInitListener {
 
         private final BeanNamesWrapper beanNames = new BeanNamesWrapper();
 
+        /*
+         * Owner annotations by bean name: bean definitions don't change at
+         * runtime, so the annotation lookup in the application context is done
+         * only once per bean and store instead of on every scope access.
+         */
+        private transient Map<String, Optional<RouteScopeOwner>> owners;
+
         private RouteBeanStore(UI ui, VaadinSession session,
                 SerializableConsumer<UI> detachUiCallback) {
             super(session);
@@ -328,8 +336,7 @@ public class VaadinRouteScope extends AbstractScope implements UIInitListener {
 
         @Override
         protected Object doGet(String name, ObjectFactory<?> objectFactory) {
-            RouteScopeOwner owner = getContext().findAnnotationOnBean(name,
-                    RouteScopeOwner.class);
+            RouteScopeOwner owner = getOwner(name);
             if (!getNavigationListener().hasNavigationOwner(owner)) {
                 assert owner != null;
                 throw new IllegalStateException(String.format(
@@ -343,9 +350,17 @@ public class VaadinRouteScope extends AbstractScope implements UIInitListener {
         @Override
         protected void storeBean(String name, Object bean) {
             super.storeBean(name, bean);
-            RouteScopeOwner owner = getContext().findAnnotationOnBean(name,
-                    RouteScopeOwner.class);
-            getNavigationListener().storeOwner(name, owner);
+            getNavigationListener().storeOwner(name, getOwner(name));
+        }
+
+        private RouteScopeOwner getOwner(String name) {
+            if (owners == null) {
+                owners = new HashMap<>();
+            }
+            return owners.computeIfAbsent(name,
+                    key -> Optional.ofNullable(getContext()
+                            .findAnnotationOnBean(key, RouteScopeOwner.class)))
+                    .orElse(null);
         }
 
         BeanNamesWrapper getBeanNamesWrapper() {
@@ -42,6 +42,23 @@ public class PrefixTreeTest {
         Assert.assertFalse(prefixTree.hasPrefix("com/su"));
     }
 
+    @Test
+    public void hasPrefix_prefixesAddedInAnyOrder_allPrefixesFound() {
+        PrefixTree prefixTree = new PrefixTree(Arrays.asList("org/yaml",
+                "org/jboss", "org/apache", "org/hibernate", "org/slf4j",
+                "org/aspectj", "oshi/"));
+        Assert.assertTrue(prefixTree.hasPrefix("org/apache/commons"));
+        Assert.assertTrue(prefixTree.hasPrefix("org/aspectj/lang"));
+        Assert.assertTrue(prefixTree.hasPrefix("org/hibernate/Session"));
+        Assert.assertTrue(prefixTree.hasPrefix("org/jboss/logging"));
+        Assert.assertTrue(prefixTree.hasPrefix("org/slf4j/Logger"));
+        Assert.assertTrue(prefixTree.hasPrefix("org/yaml/snakeyaml"));
+        Assert.assertTrue(prefixTree.hasPrefix("oshi/SystemInfo"));
+        Assert.assertFalse(prefixTree.hasPrefix("org/asm"));
+        Assert.assertFalse(prefixTree.hasPrefix("org/vaadin"));
+        Assert.assertFalse(prefixTree.hasPrefix("osh"));
+    }
+
     @Test
     public void hasPrefix_emptyTree_returnsFalse() {
         PrefixTree prefixTree = new PrefixTree(Collections.emptyList());
@@ -38,6 +38,7 @@ import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinServletContext;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.spring.SpringVaadinSession;
+import com.vaadin.flow.spring.annotation.RouteScopeOwner;
 
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.times;
@@ -83,6 +84,23 @@ public class VaadinRouteScopeTest extends AbstractUIScopedTest {
         Assert.assertEquals(1, count.get());
     }
 
+    @Test
+    public void getBeanSeveralTimes_ownerAnnotationIsLookedUpOnce() {
+        UI ui = mockUI();
+
+        WebApplicationContext appContext = mockServletContext(ui);
+
+        VaadinRouteScope scope = initScope(ui);
+
+        ObjectFactory<?> factory = putObjectIntoScope(scope);
+        scope.get("foo", factory);
+        scope.get("foo", factory);
+
+        verify(factory, times(1)).getObject();
+        verify(appContext, times(1)).findAnnotationOnBean("foo",
+                RouteScopeOwner.class);
+    }
+
     @Test
     public void destroySession_sessionAttributeIsCleanedAndDestructionCallbackIsCalled() {
         UI ui = mockUI();
@@ -246,7 +264,7 @@ public class VaadinRouteScopeTest extends AbstractUIScopedTest {
         return scope;
     }
 
-    private void mockServletContext(UI ui) {
+    private WebApplicationContext mockServletContext(UI ui) {
         VaadinService service = ui.getSession().getService();
         VaadinServletContext context = ((VaadinServletContext) service
                 .getContext());
@@ -256,7 +274,7 @@ public class VaadinRouteScopeTest extends AbstractUIScopedTest {
         Mockito.when(servletContext.getAttribute(
                 WebApplicationContext.ROOT_WEB_APPLICATION_CONTEXT_ATTRIBUTE))
                 .thenReturn(appContext);
-
+        return appContext;
     }
 
     private UI makeAnotherUI(UI ui) {